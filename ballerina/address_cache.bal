@@ -0,0 +1,59 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the configuration of the cache of the resolved addresses of the remote hosts which the
+# datagrams are sent to. The cache is shared by the clients and the listeners of the module, so that
+# a hostname is not looked up on every send.
+#
+# + maxEntries - The maximum number of addresses held in the cache. The cache is disabled if this is zero
+# + ttl - The time in seconds a resolved address is used before the hostname is looked up again.
+#         The cache is disabled if this is zero
+public type AddressCacheConfiguration record {|
+    int maxEntries = 1024;
+    decimal ttl = 30;
+|};
+
+# The configuration of the address cache shared by the clients and the listeners of the module.
+configurable AddressCacheConfiguration addressCache = {};
+
+# Represents the counters of the address cache.
+#
+# + hits - The number of sends which used a cached address
+# + misses - The number of sends which looked up the address of the remote host
+# + size - The number of addresses held in the cache
+public type AddressCacheMetrics record {|
+    int hits;
+    int misses;
+    int size;
+|};
+
+# Gets the counters of the address cache shared by the clients and the listeners.
+# ```ballerina
+# udp:AddressCacheMetrics metrics = udp:getAddressCacheMetrics();
+# ```
+#
+# + return - The counters of the address cache
+public isolated function getAddressCacheMetrics() returns AddressCacheMetrics = @java:Method {
+    'class: "io.ballerina.stdlib.udp.AddressCache",
+    name: "getMetrics"
+} external;
+
+isolated function initAddressCache(AddressCacheConfiguration config) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.AddressCache",
+    name: "init"
+} external;
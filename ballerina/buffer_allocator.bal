@@ -0,0 +1,75 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the configuration of the pooled allocator which the buffers of the sent and received
+# datagrams are allocated from. The fields which are not set take the Netty defaults.
+#
+# + directArenas - The number of arenas of direct (off-heap) buffers
+# + heapArenas - The number of arenas of heap buffers
+# + pageSize - The size of a page of an arena in bytes. It should be a power of two, not less than 4096
+# + maxOrder - The number of times a page is doubled to make up a chunk of an arena. It should be
+#              between 0 and 14
+# + useCacheForAllThreads - Whether the threads other than the event loop threads, such as the threads
+#                           sending the datagrams, cache the buffers released by them
+public type BufferAllocatorConfiguration record {|
+    int directArenas?;
+    int heapArenas?;
+    int pageSize?;
+    int maxOrder?;
+    boolean useCacheForAllThreads = false;
+|};
+
+# The configuration of the buffer allocator shared by the clients and the listeners of the module.
+configurable BufferAllocatorConfiguration bufferAllocator = {};
+
+# Represents the metrics of the buffer allocator.
+#
+# + directArenas - The number of arenas of direct buffers
+# + heapArenas - The number of arenas of heap buffers
+# + threadLocalCaches - The number of thread local caches in use
+# + chunkSize - The size of a chunk of an arena in bytes
+# + usedDirectMemory - The direct memory reserved by the allocator in bytes
+# + usedHeapMemory - The heap memory reserved by the allocator in bytes
+# + directAllocations - The number of direct buffers allocated from the arenas
+# + activeDirectAllocations - The number of direct buffers allocated from the arenas which are not released yet
+public type BufferAllocatorMetrics record {|
+    int directArenas;
+    int heapArenas;
+    int threadLocalCaches;
+    int chunkSize;
+    int usedDirectMemory;
+    int usedHeapMemory;
+    int directAllocations;
+    int activeDirectAllocations;
+|};
+
+# Gets the metrics of the buffer allocator shared by the clients and the listeners.
+# ```ballerina
+# udp:BufferAllocatorMetrics metrics = udp:getBufferAllocatorMetrics();
+# ```
+#
+# + return - The metrics of the buffer allocator
+public isolated function getBufferAllocatorMetrics() returns BufferAllocatorMetrics = @java:Method {
+    'class: "io.ballerina.stdlib.udp.BufferAllocator",
+    name: "getMetrics"
+} external;
+
+isolated function initBufferAllocator(BufferAllocatorConfiguration config) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.BufferAllocator",
+    name: "init"
+} external;
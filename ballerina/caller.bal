@@ -22,14 +22,17 @@ import ballerina/jballerina.java;
 # + remotePort - The port number of the remote host
 public client class Caller {
 
-  public string? remoteHost = ();
-  public int? remotePort = ();
+  public final string? remoteHost;
+  public final int? remotePort;
 
-  isolated function init() {
+  isolated function init(string? remoteHost, int? remotePort) {
     // package level private init() to prevent object creation
+    self.remoteHost = remoteHost;
+    self.remotePort = remotePort;
   }
   
-  # Sends the response as byte[] to the same remote host.
+  # Sends the response as byte[] to the same remote host. The caller of the
+  # `onBatch` method has no single remote host, so it can't send bytes.
   # 
   # + data - The data need to be sent to the remote host
   # + return - () or else a `udp:Error` if the given data can't be sent
@@ -46,6 +49,16 @@ public client class Caller {
   remote isolated function sendDatagram(Datagram datagram) returns Error? {
     return externSendDatagram(self, datagram);
   }
+
+  # Sends the given datagrams, each to the remote destination specified in it,
+  # with a single flush of the socket.
+  # 
+  # + datagrams - The datagrams to be sent
+  # + return - () or else a `udp:BatchSendError` with the indexes of the
+  #            datagrams which can't be sent
+  remote isolated function sendDatagrams(Datagram[] datagrams) returns Error? {
+    return externSendDatagrams(self, datagrams);
+  }
 }
 
 isolated function externSendBytes(Caller caller, byte[] data) returns Error? = @java:Method {
@@ -57,3 +70,8 @@ isolated function externSendDatagram(Caller caller, Datagram datagram) returns E
     'class: "io.ballerina.stdlib.udp.nativelistener.Caller",
     name: "sendDatagram"
 } external;
+
+isolated function externSendDatagrams(Caller caller, Datagram[] datagrams) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Caller",
+    name: "sendDatagrams"
+} external;
@@ -44,6 +44,17 @@ public isolated client class ConnectClient {
         return externConnectClientWrite(self, data);
     }
 
+    # Sends each of the given data as a datagram to the connected remote host, with a single flush of the socket.
+    # ```ballerina
+    # udp:Error? result = socketClient->writeBatch(["msg1".toBytes(), "msg2".toBytes()]);
+    # ```
+    #
+    # + data - The data of the datagrams to be sent to the connected remote host
+    # + return - `()` or else a `udp:BatchSendError` with the indexes of the data which can't be sent
+    isolated remote function writeBatch(byte[][] data) returns Error? {
+        return externConnectClientWriteBatch(self, data);
+    }
+
     # Reads data only from the connected remote host. 
     # ```ballerina
     # readonly & byte[]|udp:Error result = socketClient->readBytes();
@@ -55,6 +66,38 @@ public isolated client class ConnectClient {
         return externConnectClientRead(self);
     }
 
+    # Reads the data of up to `maxCount` datagrams from the connected remote host with a single call into
+    # the client. The data which have already been read are returned right away. Else the data of the next
+    # read of the socket are returned, or an empty array if none arrives before the timeout.
+    # ```ballerina
+    # (readonly & byte[])[]|udp:Error result = socketClient->readBatch(64);
+    # ```
+    #
+    # + maxCount - The maximum number of datagrams read
+    # + timeout - The time in seconds to wait for a datagram. With a zero timeout, only the data which have
+    #             already been read are returned. If this is not set, the `timeout` of the client is used
+    # + return - The data of the received datagrams or else a `udp:Error` if the data cannot be read from
+    #            the remote host
+    isolated remote function readBatch(int maxCount, decimal? timeout = ()) returns (readonly & byte[])[]|Error {
+        return externConnectClientReadBatch(self, maxCount, timeout);
+    }
+
+    # Receives the data of the datagrams from the connected remote host as a stream. The client keeps
+    # reading the datagrams ahead of the stream and pauses the reading while `capacity` datagrams wait to be
+    # taken by the stream, leaving the rest to the kernel receive buffer. The stream waits for the data
+    # without a timeout, and ends when it or the client is closed.
+    # ```ballerina
+    # stream<readonly & byte[], udp:Error?> data = check socketClient->readStream();
+    # ```
+    #
+    # + capacity - The maximum number of datagrams read ahead of the stream
+    # + return - A stream of the received data or else a `udp:Error` if the stream can't be opened
+    isolated remote function readStream(int capacity = 1024) returns stream<readonly & byte[], Error?>|Error {
+        check externConnectClientOpenStream(self, capacity);
+        stream<readonly & byte[], Error?> data = new (new BytesStream(self, capacity));
+        return data;
+    }
+
     # Free up the occupied socket.
     # ```ballerina
     # udp:Error? closeResult = socketClient->close();
@@ -64,6 +107,16 @@ public isolated client class ConnectClient {
     isolated remote function close() returns Error? {
         return externConnectClientClose(self);
     }
+
+    # Gets the counters of the client.
+    # ```ballerina
+    # udp:Statistics statistics = socketClient.getStatistics();
+    # ```
+    #
+    # + return - The counters of the client
+    public isolated function getStatistics() returns Statistics {
+        return externConnectClientGetStatistics(self);
+    }
 }
 
 # Configurations for the connection oriented udp client.
@@ -72,9 +125,44 @@ public isolated client class ConnectClient {
 # + timeout - The socket reading timeout value to be used 
 #             in seconds. If this is not set,the default value
 #             of 300 seconds (5 minutes) will be used
+# + transport - The network transport used by the client. If the selected native transport
+#               is not available on the host, the client falls back to `NIO`
+# + eventLoopGroup - The event loop group which runs the I/O of the client
+# + gsoSegmentSize - When set, the data of a send is split into datagrams of this size, and with the `EPOLL`
+#                    transport the splitting is offloaded to the kernel or the NIC (UDP GSO). The size should
+#                    fit in the path MTU
+# + groEnabled - Enables UDP generic receive offload with the `EPOLL` transport. The kernel coalesces
+#                the received datagrams of a flow, and they are split back into the individual datagrams
+#                before they are returned by the client
+# + readBuffer - The buffers which the received datagrams are read into. If this is not set, the
+#                datagrams are read into fixed buffers of 2048 bytes
+# + receiveBufferSize - The size of the kernel receive buffer of the socket (`SO_RCVBUF`) in bytes. A larger
+#                       buffer absorbs bursts of datagrams which would otherwise be dropped
+# + sendBufferSize - The size of the kernel send buffer of the socket (`SO_SNDBUF`) in bytes
+# + trafficClass - The type-of-service or traffic class field of the IP header of the sent datagrams (`IP_TOS`).
+#                  The value should be between 0 and 255
+# + writeBufferWaterMark - The water marks of the bytes pending to be written by the socket
+# + sendQueue - The queue which holds the datagrams sent while the socket doesn't accept writes. If this is
+#               not set, a send waits for the socket to accept writes for as long as it takes
+# + writeBatching - Batches the datagrams written by the socket into fewer flushes. If this is not set,
+#                   every datagram is flushed as soon as it is written
+# + prefetch - Keeps reading the received datagrams into a queue ahead of the receives. If this is not set,
+#              a datagram is read from the socket only when it is received
 public type ConnectClientConfiguration record {
    decimal timeout = 300;
    string localHost?;
+   Transport transport = NIO;
+   EventLoopGroupConfiguration eventLoopGroup?;
+   int gsoSegmentSize?;
+   boolean groEnabled = false;
+   ReadBufferConfiguration readBuffer?;
+   int receiveBufferSize?;
+   int sendBufferSize?;
+   int trafficClass?;
+   WriteBufferWaterMark writeBufferWaterMark?;
+   SendQueueConfiguration sendQueue?;
+   WriteBatchingConfiguration writeBatching?;
+   PrefetchConfiguration prefetch?;
    // can have other socket options
 };
 
@@ -97,8 +185,27 @@ isolated function externConnectClientRead(ConnectClient connectClient) returns (
     'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
 } external;
 
+isolated function externConnectClientReadBatch(ConnectClient connectClient, int maxCount, decimal? timeout)
+        returns (readonly & byte[])[]|Error =
+@java:Method {
+    name: "receiveBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
 isolated function externConnectClientWrite(ConnectClient connectClient, byte[] data) returns Error? =
 @java:Method {
     name: "write",
     'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
 } external;
+
+isolated function externConnectClientWriteBatch(ConnectClient connectClient, byte[][] data) returns Error? =
+@java:Method {
+    name: "writeBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externConnectClientGetStatistics(ConnectClient connectClient) returns Statistics =
+@java:Method {
+    name: "getStatistics",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
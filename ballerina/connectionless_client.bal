@@ -44,6 +44,18 @@ public isolated client class Client {
         return externConnectionlessSend(self, datagram);
     }
 
+    # Sends the given datagrams, each to its remote host, with a single flush of the socket.
+    # ```ballerina
+    # udp:Error? result = socketClient->sendDatagrams([{remoteHost: "localhost",
+    #            remotePort: 48826, data:"msg".toBytes()}]);
+    # ```
+    #
+    # + datagrams - The datagrams to be sent
+    # + return - `()` or else a `udp:BatchSendError` with the indexes of the datagrams which cannot be sent
+    isolated remote function sendDatagrams(Datagram[] datagrams) returns Error? {
+        return externConnectionlessSendBatch(self, datagrams);
+    }
+
     # Reads data from the remote host. 
     # ```ballerina
     # udp:Datagram|udp:Error result = socketClient->receiveDatagram();
@@ -55,6 +67,38 @@ public isolated client class Client {
         return externConnectionlessReceive(self);
     }
 
+    # Receives up to `maxCount` datagrams with a single call into the client. The datagrams which have
+    # already been read are returned right away. Else the datagrams of the next read of the socket are
+    # returned, or an empty array if none arrives before the timeout.
+    # ```ballerina
+    # (readonly & udp:Datagram)[]|udp:Error result = socketClient->receiveDatagrams(64);
+    # ```
+    #
+    # + maxCount - The maximum number of datagrams returned
+    # + timeout - The time in seconds to wait for a datagram. With a zero timeout, only the datagrams which
+    #             have already been read are returned. If this is not set, the `timeout` of the client is used
+    # + return - The received datagrams or else a `udp:Error` if the data cannot be read from the remote host
+    isolated remote function receiveDatagrams(int maxCount, decimal? timeout = ())
+            returns (readonly & Datagram)[]|Error {
+        return externConnectionlessReceiveBatch(self, maxCount, timeout);
+    }
+
+    # Receives the datagrams as a stream. The client keeps reading the datagrams ahead of the stream and
+    # pauses the reading while `capacity` datagrams wait to be taken by the stream, leaving the rest to the
+    # kernel receive buffer. The stream waits for the datagrams without a timeout, and ends when it or the
+    # client is closed.
+    # ```ballerina
+    # stream<readonly & udp:Datagram, udp:Error?> datagrams = check socketClient->receiveStream();
+    # ```
+    #
+    # + capacity - The maximum number of datagrams read ahead of the stream
+    # + return - A stream of the received datagrams or else a `udp:Error` if the stream can't be opened
+    isolated remote function receiveStream(int capacity = 1024) returns stream<readonly & Datagram, Error?>|Error {
+        check externConnectionlessOpenStream(self, capacity);
+        stream<readonly & Datagram, Error?> datagrams = new (new DatagramStream(self, capacity));
+        return datagrams;
+    }
+
     # Free up the occupied socket.
     # ```ballerina
     # udp:Error? closeResult = socketClient->close();
@@ -64,6 +108,16 @@ public isolated client class Client {
     isolated remote function close() returns Error? {
         return externConectionlessClientClose(self);
     }
+
+    # Gets the counters of the client.
+    # ```ballerina
+    # udp:Statistics statistics = socketClient.getStatistics();
+    # ```
+    #
+    # + return - The counters of the client
+    public isolated function getStatistics() returns Statistics {
+        return externConnectionlessClientGetStatistics(self);
+    }
 }
 
 
@@ -86,9 +140,48 @@ public type Datagram record {|
 # + timeout - The socket-reading timeout value to be used 
 #             in seconds. If this is not set,the default value
 #             of 300 seconds (5 minutes) will be used
+# + transport - The network transport used by the client. If the selected native transport
+#               is not available on the host, the client falls back to `NIO`
+# + eventLoopGroup - The event loop group which runs the I/O of the client
+# + gsoSegmentSize - When set, the data of a send is split into datagrams of this size, and with the `EPOLL`
+#                    transport the splitting is offloaded to the kernel or the NIC (UDP GSO). The size should
+#                    fit in the path MTU
+# + groEnabled - Enables UDP generic receive offload with the `EPOLL` transport. The kernel coalesces
+#                the received datagrams of a flow, and they are split back into the individual datagrams
+#                before they are returned by the client
+# + readBuffer - The buffers which the received datagrams are read into. If this is not set, the
+#                datagrams are read into fixed buffers of 2048 bytes
+# + receiveBufferSize - The size of the kernel receive buffer of the socket (`SO_RCVBUF`) in bytes. A larger
+#                       buffer absorbs bursts of datagrams which would otherwise be dropped
+# + sendBufferSize - The size of the kernel send buffer of the socket (`SO_SNDBUF`) in bytes
+# + trafficClass - The type-of-service or traffic class field of the IP header of the sent datagrams (`IP_TOS`).
+#                  The value should be between 0 and 255
+# + writeBufferWaterMark - The water marks of the bytes pending to be written by the socket
+# + reverseLookup - Enables the reverse lookup of the names of the remote hosts of the received datagrams.
+#                   The lookups run in the background and the numeric address is given until the name of
+#                   an address is looked up. If this is not set, the numeric address is always given
+# + sendQueue - The queue which holds the datagrams sent while the socket doesn't accept writes. If this is
+#               not set, a send waits for the socket to accept writes for as long as it takes
+# + writeBatching - Batches the datagrams written by the socket into fewer flushes. If this is not set,
+#                   every datagram is flushed as soon as it is written
+# + prefetch - Keeps reading the received datagrams into a queue ahead of the receives. If this is not set,
+#              a datagram is read from the socket only when it is received
 public type ClientConfiguration record {
    decimal timeout = 300;
    string localHost?;
+   Transport transport = NIO;
+   EventLoopGroupConfiguration eventLoopGroup?;
+   int gsoSegmentSize?;
+   boolean groEnabled = false;
+   ReadBufferConfiguration readBuffer?;
+   int receiveBufferSize?;
+   int sendBufferSize?;
+   int trafficClass?;
+   WriteBufferWaterMark writeBufferWaterMark?;
+   boolean reverseLookup = false;
+   SendQueueConfiguration sendQueue?;
+   WriteBatchingConfiguration writeBatching?;
+   PrefetchConfiguration prefetch?;
    // can have other socket options
 };
 
@@ -111,8 +204,27 @@ isolated function externConnectionlessReceive(Client udpClient) returns (readonl
     'class: "io.ballerina.stdlib.udp.nativeclient.Client"
 } external;
 
+isolated function externConnectionlessReceiveBatch(Client udpClient, int maxCount, decimal? timeout)
+        returns (readonly & Datagram)[]|Error =
+@java:Method {
+    name: "receiveBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
 isolated function externConnectionlessSend(Client udpClient, Datagram datagram) returns Error? =
 @java:Method {
     name: "send",
     'class: "io.ballerina.stdlib.udp.nativeclient.Client"
 } external;
+
+isolated function externConnectionlessSendBatch(Client udpClient, Datagram[] datagrams) returns Error? =
+@java:Method {
+    name: "sendBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externConnectionlessClientGetStatistics(Client udpClient) returns Statistics =
+@java:Method {
+    name: "getStatistics",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
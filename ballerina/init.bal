@@ -16,8 +16,10 @@
 
 import ballerina/jballerina.java;
 
-function init() {
+function init() returns error? {
     setModule();
+    check initBufferAllocator(bufferAllocator);
+    check initAddressCache(addressCache);
 }
 
 function setModule() = @java:Method {
@@ -80,6 +80,16 @@ public class Listener {
     public isolated function detach(Service s) returns error? {
         return externDetach(self);
     }
+
+    # Gets the counters of the listener.
+    # ```ballerina
+    # udp:Statistics statistics = udpListener.getStatistics();
+    # ```
+    #
+    # + return - The counters of the listener
+    public isolated function getStatistics() returns Statistics {
+        return externGetStatistics(self);
+    }
 }
 
 # Represents the UDP listener configuration.
@@ -88,12 +98,129 @@ public class Listener {
 # + remotePort - The remote host's port number. If this is not set, the server
 #                runs without connecting to a remote host
 # + localHost - The interface for the server to be bound
+# + transport - The network transport used by the listener. If the selected native transport
+#               is not available on the host, the listener falls back to `NIO`
+# + channelCount - The number of sockets bound to the local port. When this is greater than one
+#                  and a native transport is used, each socket is bound with `SO_REUSEPORT` on
+#                  its own event loop so that the kernel spreads the incoming datagrams across them.
+#                  This is ignored for the `NIO` transport and for connected listeners
+# + eventLoopGroup - The event loop group which runs the I/O of the listener
+# + receiveBatchSize - The maximum number of datagrams dispatched to the service as a single batch.
+#                      With the `EPOLL` transport, a batch is received with a single `recvmmsg` call.
+#                      The value should be between 1 and 1024
+# + gsoSegmentSize - When set, the data sent by the callers is split into datagrams of this size, and with the
+#                    `EPOLL` transport the splitting is offloaded to the kernel or the NIC (UDP GSO). The size
+#                    should fit in the path MTU
+# + groEnabled - Enables UDP generic receive offload with the `EPOLL` transport. The kernel coalesces
+#                the received datagrams of a flow, and they are split back into the individual datagrams
+#                before they are dispatched to the service
+# + readBuffer - The buffers which the received datagrams are read into. If this is not set, the
+#                datagrams are read into fixed buffers of 2048 bytes. A datagram which fills the whole
+#                buffer is reported to the `onError` method of the service as it may have been truncated
+# + receiveBufferSize - The size of the kernel receive buffer of the socket (`SO_RCVBUF`) in bytes. A larger
+#                       buffer absorbs bursts of datagrams which would otherwise be dropped
+# + sendBufferSize - The size of the kernel send buffer of the socket (`SO_SNDBUF`) in bytes
+# + trafficClass - The type-of-service or traffic class field of the IP header of the sent datagrams (`IP_TOS`).
+#                  The value should be between 0 and 255
+# + writeBufferWaterMark - The water marks of the bytes pending to be written by the socket
+# + reverseLookup - Enables the reverse lookup of the names of the remote hosts of the received datagrams.
+#                   The lookups run in the background and the numeric address is given until the name of
+#                   an address is looked up. If this is not set, the numeric address is always given
+# + sendQueue - The queue which holds the datagrams sent while the socket doesn't accept writes. If this is
+#               not set, a send waits for the socket to accept writes for as long as it takes
+# + writeBatching - Batches the datagrams written by the socket into fewer flushes. If this is not set,
+#                   every datagram is flushed as soon as it is written
+# + dispatch - The limits of the dispatch of the received datagrams to the service. If this is not set,
+#              the service is invoked for every received datagram right away
+# + orderedDispatch - Dispatches the datagrams with the same key to the service one at a time in the order they
+#                     are received. If this is not set, the datagrams are dispatched concurrently in any order
+# + batchDelivery - The collection of the received datagrams into the batches given to the `onBatch` method of
+#                   the service. If this is not set, the defaults of the `udp:BatchDeliveryConfiguration` apply
 public type ListenerConfiguration record {
     string remoteHost?;
     int remotePort?;
     string localHost?;
+    Transport transport = NIO;
+    int channelCount = 1;
+    EventLoopGroupConfiguration eventLoopGroup?;
+    int receiveBatchSize = 1;
+    int gsoSegmentSize?;
+    boolean groEnabled = false;
+    ReadBufferConfiguration readBuffer?;
+    int receiveBufferSize?;
+    int sendBufferSize?;
+    int trafficClass?;
+    WriteBufferWaterMark writeBufferWaterMark?;
+    boolean reverseLookup = false;
+    SendQueueConfiguration sendQueue?;
+    WriteBatchingConfiguration writeBatching?;
+    DispatchConfiguration dispatch?;
+    OrderedDispatchConfiguration orderedDispatch?;
+    BatchDeliveryConfiguration batchDelivery?;
 };
 
+# Represents what is done with a received datagram when the dispatch queue of the listener is full.
+#
+# + DROP_NEWEST - The received datagram is dropped
+# + DROP_OLDEST - The oldest datagram in the queue is dropped to make room for the received datagram
+# + BLOCK_READING - The listener stops reading from its sockets until the queue drains to half of its
+#                   capacity, leaving the datagrams to the kernel receive buffer
+public enum OverloadPolicy {
+    DROP_NEWEST,
+    DROP_OLDEST,
+    BLOCK_READING
+}
+
+# Represents the limits of the dispatch of the received datagrams to the service of a listener. The
+# datagrams received while the maximum number of service invocations are running wait in a queue, and
+# the overload policy applies once the queue is full. The dropped datagrams are counted in the
+# `droppedDatagrams` statistic of the listener.
+#
+# + maxInFlight - The maximum number of service invocations running at the same time
+# + queueCapacity - The maximum number of received datagrams waiting for a service invocation
+# + overloadPolicy - What is done with a received datagram when the queue is full
+public type DispatchConfiguration record {|
+    int maxInFlight = 1024;
+    int queueCapacity = 8192;
+    OverloadPolicy overloadPolicy = DROP_NEWEST;
+|};
+
+# Represents the ordered dispatch of the received datagrams to the service of a listener. The datagrams
+# are spread by their key across a fixed set of lanes. Each lane invokes the service for its datagrams
+# one at a time in the order they are received, while the lanes run in parallel. With ordered dispatch,
+# the number of lanes limits the service invocations running at the same time in place of the
+# `maxInFlight` of the `dispatch`.
+#
+# + laneCount - The number of lanes
+# + payloadKey - The range of the payload bytes which is the key of a datagram. If this is not set, the
+#                datagrams are keyed by the address of their remote host
+public type OrderedDispatchConfiguration record {|
+    int laneCount = 16;
+    PayloadKey payloadKey?;
+|};
+
+# Represents the collection of the received datagrams into the batches given to the `onBatch` method of a
+# service. The datagrams received by a socket are collected until the batch holds the maximum count of
+# datagrams or the linger time has passed since the first datagram of the batch was received.
+#
+# + maxCount - The maximum number of datagrams in a batch
+# + lingerTime - The maximum time in seconds a received datagram waits for the batch to fill up. With a
+#                zero linger time, a batch holds the datagrams received by a single read of the socket
+public type BatchDeliveryConfiguration record {|
+    int maxCount = 64;
+    decimal lingerTime = 0.005;
+|};
+
+# Represents a range of the payload bytes of a datagram. A datagram shorter than the end of the range is
+# keyed by the part of the range it holds.
+#
+# + offset - The index of the first byte of the range
+# + length - The number of bytes in the range
+public type PayloadKey record {|
+    int offset = 0;
+    int length;
+|};
+
 isolated function initListener(Listener listenerObj,int localPort, ListenerConfiguration config) returns Error? = @java:Method {
     'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
     name: "init"
@@ -118,3 +245,8 @@ isolated function externDetach(Listener listenerObj) returns error? = @java:Meth
     'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
     name: "detach"
 } external;
+
+isolated function externGetStatistics(Listener listenerObj) returns Statistics = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getStatistics"
+} external;
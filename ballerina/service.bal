@@ -19,6 +19,7 @@ public type Service distinct service object {
   // optional methods that the service can have
   // remote function onBytes(readonly & byte[] data, Caller caller) returns byte[]|Datagram|Error?;
   // remote function onDatagram(readonly & Datagram datagram, Caller caller) returns byte[]|Datagram|Error?;
+  // remote function onBatch(readonly & Datagram[] datagrams, Caller caller) returns Error?;
   // remote function onError(Error err) returns Error?;
 };
 
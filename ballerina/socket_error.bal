@@ -16,3 +16,14 @@
 
 # Represents udp module related errors.
 public type Error distinct error;
+
+# Represents the details of a `udp:BatchSendError`.
+#
+# + failedIndexes - The indexes of the datagrams of the batch which couldn't be sent
+public type BatchSendErrorDetail record {|
+    int[] failedIndexes;
+|};
+
+# Represents an error which occurred while sending some of the datagrams of a batch.
+# The datagrams which are not listed in the detail of the error are sent.
+public type BatchSendError distinct (Error & error<BatchSendErrorDetail>);
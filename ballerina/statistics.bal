@@ -0,0 +1,26 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the counters of a UDP client or listener.
+#
+# + truncatedDatagrams - The number of received datagrams which filled the whole read buffer and
+#                        may have been truncated
+# + droppedDatagrams - The number of received datagrams dropped because the dispatch queue of the
+#                      listener or the prefetch queue of the client was full
+public type Statistics record {|
+    int truncatedDatagrams;
+    int droppedDatagrams;
+|};
@@ -0,0 +1,194 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+
+# Used for the streams of the datagrams received by a `udp:Client`. The datagrams read ahead of the
+# stream are taken from the client in batches.
+isolated class DatagramStream {
+
+    private final Client udpClient;
+    private final int capacity;
+    private readonly & Datagram[] datagrams = [];
+    private int index = 0;
+    private boolean closed = false;
+
+    isolated function init(Client udpClient, int capacity) {
+        self.udpClient = udpClient;
+        self.capacity = capacity;
+    }
+
+    # Gets the next datagram of the stream. The stream ends when it or the client is closed.
+    #
+    # + return - The next datagram, `()` at the end of the stream, or else a `udp:Error` if the datagrams
+    #            can't be received
+    public isolated function next() returns record {|readonly & Datagram value;|}|Error? {
+        lock {
+            if self.closed {
+                return ();
+            }
+            if self.index < self.datagrams.length() {
+                readonly & Datagram value = self.datagrams[self.index];
+                self.index += 1;
+                return {value};
+            }
+        }
+        // the receive waits outside the lock, so that the stream can be closed while it waits
+        (readonly & Datagram)[]|Error received =
+                externConnectionlessReceiveStreamBatch(self.udpClient, self.capacity);
+        readonly & Datagram[]|Error datagrams = received is Error ? received : received.cloneReadOnly();
+        lock {
+            if self.closed {
+                return ();
+            }
+            if datagrams is Error || datagrams.length() == 0 {
+                self.closed = true;
+            } else {
+                // the batches received by concurrent calls are served in the order they are received
+                self.datagrams = [...self.datagrams.slice(self.index), ...datagrams].cloneReadOnly();
+                self.index = 1;
+                return {value: self.datagrams[0]};
+            }
+        }
+        // the ended stream stops the client reading ahead of it, as closing the stream does
+        externConnectionlessCloseStream(self.udpClient);
+        return datagrams is Error ? datagrams : ();
+    }
+
+    # Closes the stream. The client stops reading the datagrams ahead of the stream, and a pending
+    # `next` call ends the stream.
+    #
+    # + return - `()` as the stream is always closed
+    public isolated function close() returns Error? {
+        lock {
+            if self.closed {
+                return;
+            }
+            self.closed = true;
+            self.datagrams = [];
+            self.index = 0;
+        }
+        externConnectionlessCloseStream(self.udpClient);
+    }
+}
+
+# Used for the streams of the data received by a `udp:ConnectClient`. The data read ahead of the
+# stream are taken from the client in batches.
+isolated class BytesStream {
+
+    private final ConnectClient connectClient;
+    private final int capacity;
+    private readonly & byte[][] data = [];
+    private int index = 0;
+    private boolean closed = false;
+
+    isolated function init(ConnectClient connectClient, int capacity) {
+        self.connectClient = connectClient;
+        self.capacity = capacity;
+    }
+
+    # Gets the data of the next datagram of the stream. The stream ends when it or the client is closed.
+    #
+    # + return - The data of the next datagram, `()` at the end of the stream, or else a `udp:Error` if the
+    #            data can't be received
+    public isolated function next() returns record {|readonly & byte[] value;|}|Error? {
+        lock {
+            if self.closed {
+                return ();
+            }
+            if self.index < self.data.length() {
+                readonly & byte[] value = self.data[self.index];
+                self.index += 1;
+                return {value};
+            }
+        }
+        // the receive waits outside the lock, so that the stream can be closed while it waits
+        (readonly & byte[])[]|Error received =
+                externConnectClientReadStreamBatch(self.connectClient, self.capacity);
+        readonly & byte[][]|Error data = received is Error ? received : received.cloneReadOnly();
+        lock {
+            if self.closed {
+                return ();
+            }
+            if data is Error || data.length() == 0 {
+                self.closed = true;
+            } else {
+                // the batches received by concurrent calls are served in the order they are received
+                self.data = [...self.data.slice(self.index), ...data].cloneReadOnly();
+                self.index = 1;
+                return {value: self.data[0]};
+            }
+        }
+        // the ended stream stops the client reading ahead of it, as closing the stream does
+        externConnectClientCloseStream(self.connectClient);
+        return data is Error ? data : ();
+    }
+
+    # Closes the stream. The client stops reading the data ahead of the stream, and a pending
+    # `next` call ends the stream.
+    #
+    # + return - `()` as the stream is always closed
+    public isolated function close() returns Error? {
+        lock {
+            if self.closed {
+                return;
+            }
+            self.closed = true;
+            self.data = [];
+            self.index = 0;
+        }
+        externConnectClientCloseStream(self.connectClient);
+    }
+}
+
+isolated function externConnectionlessReceiveStreamBatch(Client udpClient, int maxCount)
+        returns (readonly & Datagram)[]|Error =
+@java:Method {
+    name: "receiveStreamBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externConnectionlessOpenStream(Client udpClient, int capacity) returns Error? =
+@java:Method {
+    name: "openStream",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externConnectionlessCloseStream(Client udpClient) =
+@java:Method {
+    name: "closeStream",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externConnectClientReadStreamBatch(ConnectClient connectClient, int maxCount)
+        returns (readonly & byte[])[]|Error =
+@java:Method {
+    name: "receiveStreamBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externConnectClientOpenStream(ConnectClient connectClient, int capacity) returns Error? =
+@java:Method {
+    name: "openStream",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externConnectClientCloseStream(ConnectClient connectClient) =
+@java:Method {
+    name: "closeStream",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
@@ -54,3 +54,110 @@ isolated function testConnectClientReadTimeOut() returns error? {
 
     return check socketClient->close();
 }
+
+@test:Config {dependsOn: [testConnectClientReadTimeOut]}
+function testConnectClientReadAfterTimeOuts() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT9, timeout = 0.2);
+
+    foreach int i in 0 ..< 5 {
+        byte[]|Error result = socketClient->readBytes();
+        if result is byte[] {
+            test:assertFail("No datagram was sent, no result should be returned");
+        } else {
+            test:assertEquals(result.message(), "Read timed out");
+        }
+    }
+
+    string msg = "Hello after the timed out reads";
+    check socketClient->writeBytes(msg.toBytes());
+    byte[] response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), msg, "Found an unexpected output");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testConnectClientReadStream() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT9, timeout = 3);
+    stream<readonly & byte[], Error?> data = check socketClient->readStream();
+
+    check socketClient->writeBatch(["First streamed data".toBytes(), "Second streamed data".toBytes()]);
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< 2 {
+        record {|readonly & byte[] value;|}? next = check data.next();
+        if next is () {
+            test:assertFail("Stream ended before all the data were received");
+        }
+        received[check string:fromBytes(next.value)] = true;
+    }
+    test:assertTrue(received.hasKey("First streamed data") && received.hasKey("Second streamed data"),
+            "Streamed data not received");
+
+    check socketClient->close();
+    test:assertEquals(check data.next(), (), "Stream not ended by closing the client");
+}
+
+@test:Config {}
+function testConnectClientReadBatch() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT9, timeout = 3);
+
+    check socketClient->writeBatch(["First batch read".toBytes(), "Second batch read".toBytes()]);
+
+    map<boolean> received = {};
+    while received.length() < 2 {
+        (readonly & byte[])[] data = check socketClient->readBatch(8);
+        test:assertTrue(data.length() > 0, "Read timed out before the data were received");
+        foreach readonly & byte[] item in data {
+            received[check string:fromBytes(item)] = true;
+        }
+    }
+    test:assertTrue(received.hasKey("First batch read") && received.hasKey("Second batch read"),
+            "Found unexpected data");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testConnectClientFragmentedWrite() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT8, gsoSegmentSize = 1000, timeout = 3);
+
+    // every fragment of the data is filled with its own index
+    byte[] data = [];
+    foreach int i in 0 ..< 2500 {
+        data.push(<byte>(i / 1000));
+    }
+    check socketClient->writeBytes(data);
+
+    map<int> fragmentLengths = {};
+    foreach int i in 0 ..< 3 {
+        readonly & byte[] response = check socketClient->readBytes();
+        int index = response[0];
+        foreach byte b in response {
+            test:assertEquals(<int>b, index, "Fragment holds the data of another fragment");
+        }
+        fragmentLengths[index.toString()] = response.length();
+    }
+    test:assertEquals(fragmentLengths, {"0": 1000, "1": 1000, "2": 500}, "Data not fragmented as expected");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testConnectClientWriteBatch() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT9, timeout = 3);
+
+    string[] messages = ["First of the batch", "Second of the batch", "Third of the batch"];
+    check socketClient->writeBatch(messages.map(msg => msg.toBytes()));
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< messages.length() {
+        readonly & byte[] response = check socketClient->readBytes();
+        received[check string:fromBytes(response)] = true;
+    }
+    foreach string msg in messages {
+        test:assertTrue(received.hasKey(msg), string `Echo not received for: ${msg}`);
+    }
+
+    return check socketClient->close();
+}
@@ -18,6 +18,7 @@ import ballerina/jballerina.java;
 import ballerina/log;
 import ballerina/test;
 import ballerina/io;
+import ballerina/lang.runtime;
 
 @test:BeforeSuite
 function setup() returns error? {
@@ -103,6 +104,440 @@ function stopAll() returns error? {
     check stopUdpServer();
 }
 
+@test:Config {dependsOn: [testClientEcho]}
+function testClientEchoWithNativeTransport() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, transport = IO_URING);
+    // the client falls back to NIO on the hosts without io_uring
+    Transport expectedTransport = isTransportAvailable(IO_URING) ? IO_URING : NIO;
+    test:assertEquals(getTransport(socketClient), expectedTransport, "Unexpected transport chosen");
+    string msg = "Hello Ballerina echo over io_uring";
+
+    check socketClient->sendDatagram(prepareDatagram(msg));
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), msg, "Found an unexpected output");
+
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientEchoWithNamedEventLoopGroup() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, eventLoopGroup = {name: "telemetry"});
+    string msg = "Hello Ballerina echo from a named group";
+
+    check socketClient->sendDatagram(prepareDatagram(msg));
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), msg, "Found an unexpected output");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+isolated function testInvalidEventLoopGroupThreadCount() {
+    Client|Error socketClient = new (eventLoopGroup = {threadCount: 0});
+    if socketClient is Client {
+        test:assertFail("Provided invalid value for threadCount this should return an Error");
+    } else {
+        test:assertEquals(socketClient.message(), "The threadCount of the event loop group should be greater than zero.");
+    }
+}
+
+@test:Config {}
+function testSendWithSegmentationOffload() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, transport = EPOLL, gsoSegmentSize = 1000);
+
+    byte[] data = [];
+    data[2499] = <byte>97;
+    check socketClient->sendDatagram({
+        data: data,
+        remoteHost: "localhost",
+        remotePort: PORT9
+    });
+
+    // the echo service may return the segments in any order
+    int[] receivedLengths = [];
+    foreach int i in 0 ..< 3 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        receivedLengths.push(response.data.length());
+    }
+    test:assertEquals(receivedLengths.sort(), [500, 1000, 1000], "Data not segmented properly");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testReceiveWithReceiveOffload() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, transport = EPOLL, gsoSegmentSize = 1000,
+        groEnabled = true);
+
+    byte[] data = [];
+    data[3499] = <byte>97;
+    check socketClient->sendDatagram({
+        data: data,
+        remoteHost: "localhost",
+        remotePort: PORT9
+    });
+
+    // coalesced echoes are split back into the datagrams sent by the service
+    int[] receivedLengths = [];
+    foreach int i in 0 ..< 4 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        receivedLengths.push(response.data.length());
+    }
+    test:assertEquals(receivedLengths.sort(), [500, 1000, 1000, 1000], "Datagrams not received properly");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testTruncatedDatagramStatistics() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, readBuffer = {size: 1024});
+
+    byte[] data = [];
+    data[1999] = <byte>97;
+    check socketClient->sendDatagram({
+        data: data,
+        remoteHost: "localhost",
+        remotePort: PORT9
+    });
+
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(response.data.length(), 1024, "Datagram not truncated to the read buffer");
+    test:assertEquals(socketClient.getStatistics().truncatedDatagrams, 1, "Truncated datagram not counted");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+isolated function testInvalidReadBufferSize() {
+    Client|Error socketClient = new (readBuffer = {allocation: ADAPTIVE, size: 4096, maxSize: 1024});
+    if socketClient is Client {
+        test:assertFail("Provided invalid read buffer sizes this should return an Error");
+    } else {
+        test:assertEquals(socketClient.message(), "The maxSize of the read buffer should not be less than its size.");
+    }
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientEchoWithSocketOptions() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, receiveBufferSize = 1048576,
+        sendBufferSize = 1048576, trafficClass = 0x10, writeBufferWaterMark = {low: 65536, high: 131072});
+    string msg = "Hello Ballerina echo with socket options";
+
+    check socketClient->sendDatagram(prepareDatagram(msg));
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), msg, "Found an unexpected output");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+isolated function testInvalidTrafficClass() {
+    Client|Error socketClient = new (trafficClass = 256);
+    if socketClient is Client {
+        test:assertFail("Provided invalid value for trafficClass this should return an Error");
+    } else {
+        test:assertEquals(socketClient.message(), "The trafficClass should be between 0 and 255.");
+    }
+}
+
+@test:Config {}
+isolated function testInvalidGsoSegmentSize() {
+    Client|Error socketClient = new (gsoSegmentSize = 0);
+    if socketClient is Client {
+        test:assertFail("Provided invalid value for gsoSegmentSize this should return an Error");
+    } else {
+        test:assertEquals(socketClient.message(), "The gsoSegmentSize should be between 1 and 65507.");
+    }
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testBufferAllocatorMetrics() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+    string msg = "Hello Ballerina echo from a pooled buffer";
+
+    check socketClient->sendDatagram(prepareDatagram(msg));
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), msg, "Found an unexpected output");
+
+    BufferAllocatorMetrics metrics = getBufferAllocatorMetrics();
+    test:assertTrue(metrics.directArenas > 0, "Allocator has no direct arenas");
+    test:assertTrue(metrics.directAllocations > 0, "Datagrams not allocated from the pooled allocator");
+    test:assertTrue(metrics.activeDirectAllocations >= 0, "Found negative active allocations");
+
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientEchoWithSendQueue() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3,
+        writeBufferWaterMark = {low: 1024, high: 2048},
+        sendQueue = {maxPendingBytes: 65536, onFull: WAIT, waitTimeout: 2});
+    string msg = "Hello Ballerina echo through the send queue";
+
+    foreach int i in 0 ..< 10 {
+        check socketClient->sendDatagram(prepareDatagram(msg));
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        test:assertEquals(string:fromBytes(response.data), msg, "Found an unexpected output");
+    }
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+isolated function testInvalidSendQueueSize() {
+    Client|Error socketClient = new (sendQueue = {maxPendingBytes: 0});
+    if socketClient is Client {
+        test:assertFail("Provided invalid value for maxPendingBytes this should return an Error");
+    } else {
+        test:assertEquals(socketClient.message(), "The maxPendingBytes of the send queue should be greater than zero.");
+    }
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientSendDatagrams() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    Datagram[] datagrams = [];
+    foreach int i in 0 ..< 8 {
+        datagrams.push(prepareDatagram(string `Batch datagram ${i}`, remotePort = PORT9));
+    }
+    check socketClient->sendDatagrams(datagrams);
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< datagrams.length() {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received[check string:fromBytes(response.data)] = true;
+    }
+    foreach int i in 0 ..< datagrams.length() {
+        test:assertTrue(received.hasKey(string `Batch datagram ${i}`), "Echo not received for a datagram of the batch");
+    }
+
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientSendDatagramsWithFailure() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    Error? result = socketClient->sendDatagrams([
+        prepareDatagram("First datagram", remotePort = PORT9),
+        prepareDatagram("Unresolvable datagram", remoteHost = "unresolvable.invalid", remotePort = PORT9),
+        prepareDatagram("Last datagram", remotePort = PORT9)
+    ]);
+    if result is BatchSendError {
+        test:assertEquals(result.detail().failedIndexes, [1], "Found unexpected failed indexes");
+    } else {
+        test:assertFail("Sending to an unresolvable host should return a BatchSendError");
+    }
+
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientSendDatagramsWithInvalidPort() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    Error? result = socketClient->sendDatagrams([
+        prepareDatagram("Datagram before an invalid port", remotePort = PORT9),
+        prepareDatagram("Datagram to an invalid port", remotePort = 70000),
+        prepareDatagram("Datagram after an invalid port", remotePort = PORT9)
+    ]);
+    if result is BatchSendError {
+        test:assertEquals(result.detail().failedIndexes, [1], "Found unexpected failed indexes");
+    } else {
+        test:assertFail("Sending to an invalid port should return a BatchSendError");
+    }
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< 2 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received[check string:fromBytes(response.data)] = true;
+    }
+    test:assertTrue(received.hasKey("Datagram before an invalid port")
+            && received.hasKey("Datagram after an invalid port"), "The valid datagrams of the batch were not sent");
+
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testAddressCacheMetrics() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+    AddressCacheMetrics before = getAddressCacheMetrics();
+
+    foreach int i in 0 ..< 3 {
+        check socketClient->sendDatagram(prepareDatagram("Hello from a cached address", remotePort = PORT9));
+        _ = check socketClient->receiveDatagram();
+    }
+
+    AddressCacheMetrics after = getAddressCacheMetrics();
+    test:assertTrue(after.hits - before.hits >= 2, "Cached address not used for the repeated sends");
+    test:assertTrue(after.size > 0, "Resolved address not cached");
+
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientPrefetch() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, prefetch = {capacity: 16});
+
+    Datagram[] datagrams = [];
+    foreach int i in 0 ..< 8 {
+        datagrams.push(prepareDatagram(string `Prefetched datagram ${i}`, remotePort = PORT9));
+    }
+    check socketClient->sendDatagrams(datagrams);
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< datagrams.length() {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received[check string:fromBytes(response.data)] = true;
+    }
+    test:assertEquals(received.length(), datagrams.length(), "Prefetched datagrams not received");
+    test:assertEquals(socketClient.getStatistics().droppedDatagrams, 0, "Datagrams dropped below the capacity");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+isolated function testInvalidPrefetchCapacity() {
+    Client|Error socketClient = new (prefetch = {capacity: 0});
+    if socketClient is Client {
+        test:assertFail("Provided invalid value for capacity this should return an Error");
+    } else {
+        test:assertEquals(socketClient.message(), "The capacity of the prefetch should be greater than zero.");
+    }
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientReceiveStream() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+    stream<readonly & Datagram, Error?> datagrams = check socketClient->receiveStream(capacity = 4);
+
+    Datagram[] sent = [];
+    foreach int i in 0 ..< 8 {
+        sent.push(prepareDatagram(string `Streamed datagram ${i}`, remotePort = PORT9));
+    }
+    check socketClient->sendDatagrams(sent);
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< sent.length() {
+        record {|readonly & Datagram value;|}? next = check datagrams.next();
+        if next is () {
+            test:assertFail("Stream ended before all the datagrams were received");
+        }
+        received[check string:fromBytes(next.value.data)] = true;
+    }
+    test:assertEquals(received.length(), sent.length(), "Streamed datagrams not received");
+
+    check datagrams.close();
+    test:assertEquals(check datagrams.next(), (), "Closed stream returned a datagram");
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientReceiveStream]}
+function testCloseWaitingStream() returns error? {
+    Client socketClient = check new (localHost = "localhost");
+    stream<readonly & Datagram, Error?> datagrams = check socketClient->receiveStream();
+
+    future<record {|readonly & Datagram value;|}|Error?> next = start nextDatagram(datagrams);
+    // lets the next call wait for a datagram, which is never sent
+    runtime:sleep(0.5);
+    check datagrams.close();
+    test:assertEquals(check wait next, (), "Waiting stream not ended by closing it");
+
+    return check socketClient->close();
+}
+
+isolated function nextDatagram(stream<readonly & Datagram, Error?> datagrams)
+        returns record {|readonly & Datagram value;|}|Error? {
+    return datagrams.next();
+}
+
+@test:Config {}
+function testConcurrentReceives() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    future<(readonly & Datagram)|Error> first = start socketClient->receiveDatagram();
+    future<(readonly & Datagram)|Error> second = start socketClient->receiveDatagram();
+    runtime:sleep(0.2);
+    // the datagrams are echoed one at a time, so each is read by a read loop of its own
+    check socketClient->sendDatagram(prepareDatagram("First concurrent receive", remotePort = PORT9));
+    runtime:sleep(0.2);
+    check socketClient->sendDatagram(prepareDatagram("Second concurrent receive", remotePort = PORT9));
+
+    map<boolean> received = {};
+    received[check string:fromBytes((check wait first).data)] = true;
+    received[check string:fromBytes((check wait second).data)] = true;
+    test:assertTrue(received.hasKey("First concurrent receive"), "First datagram not received");
+    test:assertTrue(received.hasKey("Second concurrent receive"), "Second datagram not received");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testClientAfterClose() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 1);
+    check socketClient->close();
+
+    Error? sent = socketClient->sendDatagram(prepareDatagram("Sent after close", remotePort = PORT9));
+    test:assertTrue(sent is Error, "Datagram sent by a closed client");
+    Error? batchSent = socketClient->sendDatagrams([prepareDatagram("Sent after close", remotePort = PORT9)]);
+    test:assertTrue(batchSent is Error, "Datagrams sent by a closed client");
+    (readonly & Datagram)|Error received = socketClient->receiveDatagram();
+    test:assertTrue(received is Error, "Datagram received by a closed client");
+}
+
+@test:Config {}
+isolated function testInvalidStreamCapacity() returns error? {
+    Client socketClient = check new (localHost = "localhost");
+    stream<readonly & Datagram, Error?>|Error datagrams = socketClient->receiveStream(capacity = 0);
+    if datagrams is Error {
+        test:assertEquals(datagrams.message(), "The capacity of the stream should be greater than zero.");
+    } else {
+        test:assertFail("Provided invalid value for capacity this should return an Error");
+    }
+    return check socketClient->close();
+}
+
+@test:Config {dependsOn: [testClientEcho]}
+function testClientReceiveDatagrams() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    (readonly & Datagram)[] datagrams = check socketClient->receiveDatagrams(16, timeout = 0);
+    test:assertEquals(datagrams.length(), 0, "Datagrams received before any was sent");
+
+    Datagram[] sent = [];
+    foreach int i in 0 ..< 8 {
+        sent.push(prepareDatagram(string `Batch received datagram ${i}`, remotePort = PORT9));
+    }
+    check socketClient->sendDatagrams(sent);
+
+    map<boolean> received = {};
+    while received.length() < sent.length() {
+        datagrams = check socketClient->receiveDatagrams(4);
+        test:assertTrue(datagrams.length() > 0 && datagrams.length() <= 4, "Found an unexpected batch size");
+        foreach readonly & Datagram datagram in datagrams {
+            received[check string:fromBytes(datagram.data)] = true;
+        }
+    }
+    test:assertEquals(received.length(), sent.length(), "Found unexpected datagrams");
+
+    datagrams = check socketClient->receiveDatagrams(16, timeout = 0.2);
+    test:assertEquals(datagrams.length(), 0, "Datagrams received after all were received");
+    return check socketClient->close();
+}
+
+@test:Config {}
+isolated function testInvalidReceiveDatagramsCount() returns error? {
+    Client socketClient = check new (localHost = "localhost");
+    (readonly & Datagram)[]|Error datagrams = socketClient->receiveDatagrams(0);
+    if datagrams is Error {
+        test:assertEquals(datagrams.message(), "The maxCount should be greater than zero.");
+    } else {
+        test:assertFail("Provided invalid value for maxCount this should return an Error");
+    }
+    return check socketClient->close();
+}
+
 isolated function prepareDatagram(string msg, string remoteHost = "localhost", int remotePort = 48829) returns Datagram {
     byte[] data = msg.toBytes();
     return {
@@ -112,6 +547,14 @@ isolated function prepareDatagram(string msg, string remoteHost = "localhost", i
     };
 }
 
+isolated function getTransport(Client socketClient) returns string = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.MockServerUtils"
+} external;
+
+isolated function isTransportAvailable(Transport transport) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.MockServerUtils"
+} external;
+
 public function startUdpServer() returns error? = @java:Method 
 {'class: "io.ballerina.stdlib.udp.testutils.MockServerUtils"} external;
 
@@ -13,6 +13,8 @@
 // KIND, either express or implied.  See the License for the
 // specific language governing permissions and limitations
 // under the License.
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
 import ballerina/log;
 import ballerina/test;
 import ballerina/io;
@@ -163,3 +165,282 @@ function testReadOnly() returns error? {
     test:assertEquals(string:fromBytes(response), "true");
     return check socketClient->close();
 }
+
+@test:Config {}
+function testReusePortListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    string[] messages = ["Message one", "Message two", "Message three", "Message four"];
+
+    foreach var msg in messages {
+        check socketClient->sendDatagram(prepareDatagram(msg, remotePort = PORT8));
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        test:assertEquals(string:fromBytes(response.data), msg, "Found unexpected output");
+    }
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testBatchedReceiveListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    string[] messages = [];
+    foreach int i in 0 ..< 16 {
+        string msg = string `Batched message ${i}`;
+        messages.push(msg);
+        check socketClient->sendDatagram(prepareDatagram(msg, remotePort = PORT9));
+    }
+
+    // batches are dispatched independently, so the echoes may arrive in any order
+    map<boolean> received = {};
+    foreach int i in 0 ..< messages.length() {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received[check string:fromBytes(response.data)] = true;
+    }
+    foreach string msg in messages {
+        test:assertTrue(received.hasKey(msg), string `Echo not received for: ${msg}`);
+    }
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testWriteBatchingClient() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3, writeBatching = {maxPendingFlushes: 8});
+
+    string[] messages = [];
+    foreach int i in 0 ..< 16 {
+        string msg = string `Write batched message ${i}`;
+        messages.push(msg);
+        check socketClient->sendDatagram(prepareDatagram(msg, remotePort = PORT9));
+    }
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< messages.length() {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received[check string:fromBytes(response.data)] = true;
+    }
+    foreach string msg in messages {
+        test:assertTrue(received.hasKey(msg), string `Echo not received for: ${msg}`);
+    }
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testCallerSendDatagrams() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+    string msg = "Reply with a batch";
+    check socketClient->sendDatagram(prepareDatagram(msg, remotePort = PORT10));
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< 2 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received[check string:fromBytes(response.data)] = true;
+    }
+    test:assertEquals(received, {[msg]: true, "Batched reply": true}, "Found unexpected output");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testNumericRemoteHost() returns error? {
+    Client socketClient = check new (localHost = "127.0.0.1", timeout = 3);
+    check socketClient->sendDatagram(prepareDatagram("Who am I?", remoteHost = "127.0.0.1", remotePort = PORT11));
+
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), "127.0.0.1", "Remote host not given as a numeric address");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testReverseLookupRemoteHost() returns error? {
+    Client socketClient = check new (localHost = "127.0.0.1", timeout = 3);
+
+    // the name is looked up in the background, so the numeric address is given until the lookup completes
+    string remoteHost = "127.0.0.1";
+    foreach int i in 0 ..< 20 {
+        check socketClient->sendDatagram(prepareDatagram("Who am I?", remoteHost = "127.0.0.1", remotePort = PORT20));
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        remoteHost = check string:fromBytes(response.data);
+        if remoteHost != "127.0.0.1" {
+            break;
+        }
+        runtime:sleep(0.1);
+    }
+    test:assertTrue(remoteHost.startsWith("localhost"), string `Remote host name not looked up: ${remoteHost}`);
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testBoundedDispatchListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    string[] messages = [];
+    foreach int i in 0 ..< 16 {
+        string msg = string `Bounded dispatch message ${i}`;
+        messages.push(msg);
+        check socketClient->sendDatagram(prepareDatagram(msg, remotePort = PORT12));
+    }
+
+    map<boolean> received = {};
+    foreach int i in 0 ..< messages.length() {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received[check string:fromBytes(response.data)] = true;
+    }
+    foreach string msg in messages {
+        test:assertTrue(received.hasKey(msg), string `Echo not received for: ${msg}`);
+    }
+    test:assertEquals(dispatchServer.getStatistics().droppedDatagrams, 0, "Datagrams dropped while reading is blocked");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testDropNewestDispatchListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 1.5);
+
+    // the first datagram is in flight and the next two fill the queue, so the last two are dropped
+    foreach int i in 0 ..< 5 {
+        check socketClient->sendDatagram(prepareDatagram(i.toString(), remotePort = PORT17));
+    }
+    test:assertEquals(check receiveEchoes(socketClient), ["0", "1", "2"]);
+    test:assertEquals(dropNewestServer.getStatistics().droppedDatagrams, 2);
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testDropOldestDispatchListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 1.5);
+
+    // the first datagram is in flight, and each of the last two makes room by dropping the oldest queued one
+    foreach int i in 0 ..< 5 {
+        check socketClient->sendDatagram(prepareDatagram(i.toString(), remotePort = PORT18));
+    }
+    test:assertEquals(check receiveEchoes(socketClient), ["0", "3", "4"]);
+    test:assertEquals(dropOldestServer.getStatistics().droppedDatagrams, 2);
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testBlockReadingDispatchListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 1.5);
+
+    foreach int i in 0 ..< 6 {
+        check socketClient->sendDatagram(prepareDatagram(i.toString(), remotePort = PORT19));
+    }
+    // the queue is full while the first datagram is processed, so the listener stops reading
+    runtime:sleep(0.1);
+    test:assertTrue(isReadingPaused(blockReadingServer), "Reading not paused while the queue is full");
+
+    // the datagrams left to the kernel are read once the queue drains
+    test:assertEquals(check receiveEchoes(socketClient), ["0", "1", "2", "3", "4", "5"]);
+    test:assertFalse(isReadingPaused(blockReadingServer), "Reading not resumed after the queue drained");
+    test:assertEquals(blockReadingServer.getStatistics().droppedDatagrams, 0);
+
+    return check socketClient->close();
+}
+
+// receives the echoes until the client times out
+function receiveEchoes(Client socketClient) returns string[]|error {
+    string[] echoes = [];
+    while true {
+        (readonly & Datagram)|Error response = socketClient->receiveDatagram();
+        if response is Error {
+            return echoes;
+        }
+        echoes.push(check string:fromBytes(response.data));
+    }
+}
+
+isolated function isReadingPaused(Listener udpListener) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.MockServerUtils"
+} external;
+
+@test:Config {}
+function testOrderedDispatchListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    string[] messages = [];
+    foreach int i in 0 ..< 16 {
+        string msg = string `Ordered message ${i}`;
+        messages.push(msg);
+        check socketClient->sendDatagram(prepareDatagram(msg, remotePort = PORT13));
+    }
+
+    // the datagrams of a single remote host share a lane, so they are echoed in the order they were sent
+    foreach string msg in messages {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        test:assertEquals(string:fromBytes(response.data), msg, "Echo received out of order");
+    }
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testPayloadKeyOrderedDispatchListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    foreach int i in 0 ..< 4 {
+        check socketClient->sendDatagram(prepareDatagram(string `A${i}`, remotePort = PORT16));
+        check socketClient->sendDatagram(prepareDatagram(string `B${i}`, remotePort = PORT16));
+    }
+
+    string[] received = [];
+    foreach int i in 0 ..< 8 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received.push(check string:fromBytes(response.data));
+    }
+    // the datagrams of each key are echoed in the order they were sent
+    test:assertEquals(received.filter(msg => msg.startsWith("A")), ["A0", "A1", "A2", "A3"]);
+    test:assertEquals(received.filter(msg => msg.startsWith("B")), ["B0", "B1", "B2", "B3"]);
+    // the keys are in different lanes, so the datagrams of "B" are not held up by the slow datagrams of "A"
+    test:assertTrue(<int>received.indexOf("B3") < <int>received.indexOf("A3"),
+            string `Datagrams of a key waited for another key: ${received.toString()}`);
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testOnBatchListener() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    foreach int i in 0 ..< 8 {
+        check socketClient->sendDatagram(prepareDatagram(string `Batch member ${i}`, remotePort = PORT14));
+    }
+
+    // each datagram is answered with the size of the batch it was delivered in
+    int delivered = 0;
+    int maxBatchSize = 0;
+    while delivered < 8 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        int batchSize = check int:fromString(check string:fromBytes(response.data));
+        test:assertTrue(batchSize >= 1 && batchSize <= 8, string `Unexpected batch size: ${batchSize}`);
+        maxBatchSize = int:max(maxBatchSize, batchSize);
+        delivered += 1;
+    }
+    // the burst arrives well within the linger time of its first datagram, so it is not delivered one by one
+    test:assertTrue(maxBatchSize > 1, "The datagrams of the burst were not batched");
+
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testCallerReusedForRemoteHost() returns error? {
+    Client socketClient = check new (localHost = "localhost", timeout = 3);
+
+    check socketClient->sendDatagram(prepareDatagram("First", remotePort = PORT15));
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), "New caller", "Found unexpected output");
+
+    check socketClient->sendDatagram(prepareDatagram("Second", remotePort = PORT15));
+    response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), "Reused caller", "Caller not reused for the remote host");
+
+    return check socketClient->close();
+}
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 import ballerina/io;
+import ballerina/lang.runtime;
 
 const int PORT1 = 9000;
 const int PORT2 = 8080;
@@ -22,10 +23,31 @@ const int PORT4 = 9002;
 const int PORT5 = 9003;
 const int PORT6 = 9004;
 const int PORT7 = 9005;
+const int PORT8 = 9006;
+const int PORT9 = 9007;
+const int PORT10 = 9008;
+const int PORT11 = 9009;
+const int PORT12 = 9010;
+const int PORT13 = 9011;
+const int PORT14 = 9012;
+const int PORT15 = 9013;
+const int PORT16 = 9014;
+const int PORT17 = 9015;
+const int PORT18 = 9016;
+const int PORT19 = 9017;
+const int PORT20 = 9018;
 
 listener Listener logServer = new Listener(PORT1);
 listener Listener echoServer = new Listener(PORT2);
 listener Listener botServer = new Listener(PORT3);
+listener Listener dispatchServer = new Listener(PORT12,
+        dispatch = {maxInFlight: 2, queueCapacity: 64, overloadPolicy: BLOCK_READING});
+listener Listener dropNewestServer = new Listener(PORT17,
+        dispatch = {maxInFlight: 1, queueCapacity: 2, overloadPolicy: DROP_NEWEST});
+listener Listener dropOldestServer = new Listener(PORT18,
+        dispatch = {maxInFlight: 1, queueCapacity: 2, overloadPolicy: DROP_OLDEST});
+listener Listener blockReadingServer = new Listener(PORT19,
+        dispatch = {maxInFlight: 1, queueCapacity: 2, overloadPolicy: BLOCK_READING});
 
 service on logServer {
 
@@ -111,3 +133,102 @@ service on new Listener(PORT7) {
         return resp;
     }
 }
+
+service on new Listener(PORT8, transport = EPOLL, channelCount = 4, eventLoopGroup = {threadCount: 4}) {
+    remote function onBytes(readonly & byte[] data) returns (readonly & byte[])|Error? {
+        return data;
+    }
+}
+
+service on new Listener(PORT9, transport = EPOLL, receiveBatchSize = 32, writeBatching = {maxPendingFlushes: 32}) {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        return datagram;
+    }
+}
+
+service on new Listener(PORT10) {
+    remote function onDatagram(Caller caller, readonly & Datagram datagram) returns Error? {
+        string remoteHost = <string>caller.remoteHost;
+        int remotePort = <int>caller.remotePort;
+        return caller->sendDatagrams([
+            {data: datagram.data, remoteHost, remotePort},
+            {data: "Batched reply".toBytes(), remoteHost, remotePort}
+        ]);
+    }
+}
+
+service on new Listener(PORT11) {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        return {data: datagram.remoteHost.toBytes(), remoteHost: datagram.remoteHost, remotePort: datagram.remotePort};
+    }
+}
+
+service on new Listener(PORT20, reverseLookup = true) {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        return {data: datagram.remoteHost.toBytes(), remoteHost: datagram.remoteHost, remotePort: datagram.remotePort};
+    }
+}
+
+service on dispatchServer {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        return datagram;
+    }
+}
+
+service on new Listener(PORT13, receiveBatchSize = 16, orderedDispatch = {laneCount: 4}) {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        return datagram;
+    }
+}
+
+// the overloaded listeners process a datagram at a time, slowly enough to fill their queues
+service on dropNewestServer {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        runtime:sleep(0.3);
+        return datagram;
+    }
+}
+
+service on dropOldestServer {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        runtime:sleep(0.3);
+        return datagram;
+    }
+}
+
+service on blockReadingServer {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        runtime:sleep(0.3);
+        return datagram;
+    }
+}
+
+// the datagrams are keyed by their first byte, and those of the key "A" are slow to process
+service on new Listener(PORT16, receiveBatchSize = 16,
+        orderedDispatch = {laneCount: 4, payloadKey: {offset: 0, length: 1}}) {
+    remote function onDatagram(readonly & Datagram datagram) returns Datagram|Error? {
+        if datagram.data[0] == 65 {
+            runtime:sleep(0.2);
+        }
+        return datagram;
+    }
+}
+
+service on new Listener(PORT14, batchDelivery = {maxCount: 8, lingerTime: 0.05}) {
+    remote function onBatch(readonly & Datagram[] datagrams, Caller caller) returns Error? {
+        Datagram[] replies = from Datagram datagram in datagrams
+            select {data: string `${datagrams.length()}`.toBytes(), remoteHost: datagram.remoteHost,
+                remotePort: datagram.remotePort};
+        return caller->sendDatagrams(replies);
+    }
+}
+
+Caller? lastCaller = ();
+
+service on new Listener(PORT15) {
+    remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+        boolean reused = lastCaller === caller;
+        lastCaller = caller;
+        return caller->sendBytes(reused ? "Reused caller".toBytes() : "New caller".toBytes());
+    }
+}
@@ -0,0 +1,120 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the network transport used by the UDP sockets.
+#
+# + NIO - The portable Java NIO transport. This is used by default and as the fallback when
+#         the native transport is not available on the host
+# + EPOLL - The Linux native epoll transport
+# + IO_URING - The Linux native io_uring transport, which batches the submission and
+#              completion of the socket operations
+public enum Transport {
+    NIO,
+    EPOLL,
+    IO_URING
+}
+
+# Represents the event loop group which runs the network I/O of a UDP socket.
+# Sockets without an event loop group configuration share the default group of their transport.
+#
+# + name - The name of a shared event loop group. Sockets using the same name and transport
+#          share the group. If this is not set, the group is dedicated to the socket and
+#          is shut down when the socket is closed
+# + threadCount - The number of event loop threads of the group. If this is not set, a shared
+#                 group has twice the number of available processors and a dedicated group has
+#                 one thread per socket channel. The socket that creates a shared group first
+#                 decides its thread count
+public type EventLoopGroupConfiguration record {|
+    string name?;
+    int threadCount?;
+|};
+
+# Represents how the buffers which the received datagrams are read into are sized.
+#
+# + FIXED - Every datagram is read into a buffer of the configured size
+# + ADAPTIVE - The buffer size is tuned from a histogram of the sizes of the received datagrams
+public enum ReadBufferAllocation {
+    FIXED,
+    ADAPTIVE
+}
+
+# Represents the buffers which the received datagrams are read into. A datagram which is larger
+# than its buffer is truncated. As a datagram which is larger than the buffer can't be told apart
+# from one which exactly fills it, a datagram which fills the whole buffer is counted as truncated.
+#
+# + allocation - The way the buffers are sized
+# + size - The size of the buffers with `FIXED` allocation, and the smallest buffer allocated with
+#          `ADAPTIVE` allocation. The value should be between 1 and 65507
+# + maxSize - The largest buffer allocated with `ADAPTIVE` allocation. The value should be between
+#             1 and 65507
+public type ReadBufferConfiguration record {|
+    ReadBufferAllocation allocation = FIXED;
+    int size = 2048;
+    int maxSize = 65507;
+|};
+
+# Represents the write buffer water marks of a UDP socket. The socket stops accepting writes once the
+# bytes pending to be written exceed the high water mark, and accepts them again once the pending bytes
+# drop below the low water mark.
+#
+# + low - The low water mark in bytes
+# + high - The high water mark in bytes
+public type WriteBufferWaterMark record {|
+    int low = 32768;
+    int high = 65536;
+|};
+
+# Represents the action taken when a datagram is sent while the send queue is full.
+#
+# + FAIL - The send fails with an error
+# + WAIT - The send waits for room in the queue, and fails if there is no room before the wait timeout
+public enum SendQueueFullAction {
+    FAIL,
+    WAIT
+}
+
+# Represents the queue of a UDP socket which holds the datagrams sent while the socket doesn't accept
+# writes, that is, while the bytes pending to be written by the socket are above the high write buffer
+# water mark. The queued datagrams are written once the socket accepts writes again.
+#
+# + maxPendingBytes - The bytes the queue holds before a send is failed or made to wait. A datagram
+#                     larger than this is still queued when the queue is empty
+# + onFull - The action taken when a datagram is sent while the queue is full
+# + waitTimeout - The time in seconds a send waits for room in the queue with the `WAIT` action
+public type SendQueueConfiguration record {|
+    int maxPendingBytes = 1048576;
+    SendQueueFullAction onFull = FAIL;
+    decimal waitTimeout = 5;
+|};
+
+# Represents the batching of the datagrams written by a UDP socket. The flushes of the written datagrams
+# are deferred to the end of the current event loop iteration, so that the datagrams written in between
+# are flushed together.
+#
+# + maxPendingFlushes - The number of deferred flushes after which the datagrams are flushed right away
+public type WriteBatchingConfiguration record {|
+    int maxPendingFlushes = 256;
+|};
+
+# Represents the queue of a UDP client which holds the datagrams read ahead of the receives. The socket
+# keeps reading while the client isn't receiving, so that a burst of datagrams is taken out of the kernel
+# receive buffer before it overflows. A datagram read while the queue is full is dropped and counted in the
+# `droppedDatagrams` statistic of the client.
+#
+# + capacity - The maximum number of datagrams held by the queue
+public type PrefetchConfiguration record {|
+    int capacity = 1024;
+|};
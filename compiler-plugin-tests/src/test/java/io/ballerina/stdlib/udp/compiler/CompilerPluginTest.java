@@ -63,7 +63,7 @@ public class CompilerPluginTest {
         Assert.assertEquals(diagnosticResult.diagnostics().size(), 3);
         Diagnostic diagnostic = (Diagnostic) diagnosticResult.diagnostics().toArray()[2];
         Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
-                UdpServiceValidator.SERVICE_DOES_NOT_CONTAIN_ON_DATAGRAM_OR_ON_BYTES_FUNCTION);
+                UdpServiceValidator.SERVICE_DOES_NOT_CONTAIN_ON_DATAGRAM_ON_BYTES_OR_ON_BATCH_FUNCTION);
         Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_102);
     }
 
@@ -208,6 +208,39 @@ public class CompilerPluginTest {
         }
     }
 
+    @Test
+    public void testValidOnBatchService() {
+        Package currentPackage = loadPackage("sample_package_16");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnostics().size(), 0);
+    }
+
+    @Test
+    public void testServiceWithOnBatchAndOnDatagram() {
+        Package currentPackage = loadPackage("sample_package_17");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnostics().size(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.diagnostics().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
+                UdpServiceValidator.SERVICE_CANNOT_CONTAIN_BOTH_ON_BATCH_0_AND_1_2_FUNCTIONS);
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_102);
+    }
+
+    @Test(description = "test onBatch function with udp:Datagram[] parameter, without readonly intersection")
+    public void testOnBatchFunctionWithoutReadonlyParameter() {
+        Package currentPackage = loadPackage("sample_package_18");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnostics().size(), 2);
+        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+            Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
+                    UdpServiceValidator.INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2);
+            Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
+        }
+    }
+
     private Package loadPackage(String path) {
         Path projectDirPath = RESOURCE_DIRECTORY.resolve(path);
         BuildProject project = BuildProject.load(getEnvironmentBuilder(), projectDirPath);
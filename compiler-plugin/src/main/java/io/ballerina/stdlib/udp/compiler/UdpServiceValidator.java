@@ -42,6 +42,7 @@ public class UdpServiceValidator {
 
     private FunctionDefinitionNode onDatagramFunctionNode;
     private FunctionDefinitionNode onBytesFunctionNode;
+    private FunctionDefinitionNode onBatchFunctionNode;
     private FunctionDefinitionNode onErrorFunctionNode;
     private final String modulePrefix;
     private final SyntaxNodeAnalysisContext ctx;
@@ -58,8 +59,10 @@ public class UdpServiceValidator {
     // Message formats for reporting error diagnostics
     public static final String SERVICE_CANNOT_CONTAIN_BOTH_ON_DATAGRAM_0_AND_ON_BYTES_1_FUNCTIONS
             = "Service cannot contain both `onDatagram` {0} and `onBytes` {1} functions.";
-    public static final String SERVICE_DOES_NOT_CONTAIN_ON_DATAGRAM_OR_ON_BYTES_FUNCTION
-            = "Service does not contain `onDatagram` or `onBytes` function.";
+    public static final String SERVICE_CANNOT_CONTAIN_BOTH_ON_BATCH_0_AND_1_2_FUNCTIONS
+            = "Service cannot contain both `onBatch` {0} and `{1}` {2} functions.";
+    public static final String SERVICE_DOES_NOT_CONTAIN_ON_DATAGRAM_ON_BYTES_OR_ON_BATCH_FUNCTION
+            = "Service does not contain `onDatagram`, `onBytes` or `onBatch` function.";
     public static final String NO_PARAMETER_PROVIDED_FOR_0_FUNCTION_EXPECTS_1_AS_A_PARAMETER
             = "No parameter provided for `{0}`, function expects `{1}` as a parameter.";
     public static final String REMOTE_KEYWORD_EXPECTED_IN_0_FUNCTION_SIGNATURE
@@ -79,6 +82,7 @@ public class UdpServiceValidator {
     // expected parameters and return types
     public static final String READONLY_INTERSECTION = "readonly & ";
     public static final String DATAGRAM = "Datagram";
+    public static final String ARRAY = "[]";
     public static final String CALLER = "Caller";
     public static final String BYTE_ARRAY = "byte[]";
     public static final String ERROR = "Error";
@@ -113,6 +117,7 @@ public class UdpServiceValidator {
         checkOnBytesAndOnDatagramFunctionExistence();
         validateFunctionSignature(onDatagramFunctionNode, Constants.ON_DATAGRAM);
         validateFunctionSignature(onBytesFunctionNode, Constants.ON_BYTES);
+        validateFunctionSignature(onBatchFunctionNode, Constants.ON_BATCH);
         validateFunctionSignature(onErrorFunctionNode, Constants.ON_ERROR);
     }
 
@@ -121,6 +126,7 @@ public class UdpServiceValidator {
         if (hasRemoteKeyword(functionDefinitionNode) &&
                 !Utils.equals(functionName, Constants.ON_DATAGRAM)
                 && !Utils.equals(functionName, Constants.ON_BYTES)
+                && !Utils.equals(functionName, Constants.ON_BATCH)
                 && !Utils.equals(functionName, Constants.ON_ERROR)) {
             reportInvalidFunction(functionDefinitionNode);
         } else {
@@ -128,6 +134,8 @@ public class UdpServiceValidator {
                     : onDatagramFunctionNode;
             onBytesFunctionNode = Utils.equals(functionName, Constants.ON_BYTES) ? functionDefinitionNode
                     : onBytesFunctionNode;
+            onBatchFunctionNode = Utils.equals(functionName, Constants.ON_BATCH) ? functionDefinitionNode
+                    : onBatchFunctionNode;
             onErrorFunctionNode = Utils.equals(functionName, Constants.ON_ERROR) ? functionDefinitionNode
                     : onErrorFunctionNode;
         }
@@ -152,7 +160,18 @@ public class UdpServiceValidator {
     }
 
     private void checkOnBytesAndOnDatagramFunctionExistence() {
-        if (onBytesFunctionNode != null && onDatagramFunctionNode != null) {
+        if (onBatchFunctionNode != null) {
+            // Service shouldn't contain onBatch together with onDatagram or onBytes method
+            FunctionDefinitionNode readFunctionNode = onDatagramFunctionNode != null ? onDatagramFunctionNode
+                    : onBytesFunctionNode;
+            if (readFunctionNode != null) {
+                DiagnosticInfo diagnosticInfo = new DiagnosticInfo(CODE_102,
+                        SERVICE_CANNOT_CONTAIN_BOTH_ON_BATCH_0_AND_1_2_FUNCTIONS, DiagnosticSeverity.ERROR);
+                ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, ctx.node().location(),
+                        onBatchFunctionNode.location().lineRange(), readFunctionNode.functionName().toString(),
+                        readFunctionNode.location().lineRange()));
+            }
+        } else if (onBytesFunctionNode != null && onDatagramFunctionNode != null) {
             // Service shouldn't contain both onDatagram, onBytes method
             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(CODE_102,
                     SERVICE_CANNOT_CONTAIN_BOTH_ON_DATAGRAM_0_AND_ON_BYTES_1_FUNCTIONS,
@@ -160,9 +179,9 @@ public class UdpServiceValidator {
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, ctx.node().location(),
                     onDatagramFunctionNode.location().lineRange(), onBytesFunctionNode.location().lineRange()));
         } else if (onBytesFunctionNode == null && onDatagramFunctionNode == null) {
-            // At-least service should contain onDatagram method or onBytes method
+            // At-least service should contain onDatagram, onBytes or onBatch method
             DiagnosticInfo diagnosticInfo = new DiagnosticInfo(CODE_102,
-                    SERVICE_DOES_NOT_CONTAIN_ON_DATAGRAM_OR_ON_BYTES_FUNCTION,
+                    SERVICE_DOES_NOT_CONTAIN_ON_DATAGRAM_ON_BYTES_OR_ON_BATCH_FUNCTION,
                     DiagnosticSeverity.ERROR);
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                     ctx.node().location()));
@@ -194,7 +213,9 @@ public class UdpServiceValidator {
                     NO_PARAMETER_PROVIDED_FOR_0_FUNCTION_EXPECTS_1_AS_A_PARAMETER, DiagnosticSeverity.ERROR);
             String expectedParameter = functionName.equals(Constants.ON_BYTES) ?
                     READONLY_INTERSECTION + BYTE_ARRAY : functionName.equals(Constants.ON_ERROR) ?
-                    modulePrefix + ERROR : READONLY_INTERSECTION + modulePrefix + DATAGRAM;
+                    modulePrefix + ERROR : functionName.equals(Constants.ON_BATCH) ?
+                    READONLY_INTERSECTION + modulePrefix + DATAGRAM + ARRAY
+                    : READONLY_INTERSECTION + modulePrefix + DATAGRAM;
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                     functionDefinitionNode.functionSignature().location(), functionName, expectedParameter));
             return true;
@@ -212,7 +233,9 @@ public class UdpServiceValidator {
                 boolean hasByteArray = parameterTypeName.toString().contains(BYTE_ARRAY);
                 DiagnosticInfo diagnosticInfo;
 
-                if (functionName.equals(Constants.ON_DATAGRAM)
+                if (functionName.equals(Constants.ON_BATCH)) {
+                    validateOnBatchParameter(requiredParameterNode, parameterTypeName, hasCaller);
+                } else if (functionName.equals(Constants.ON_DATAGRAM)
                         && ((parameterTypeName.kind() == SyntaxKind.INTERSECTION_TYPE_DESC && !hasDatagram)
                         || (parameterTypeName.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE && !hasCaller))) {
                     if (hasDatagram) {
@@ -263,6 +286,29 @@ public class UdpServiceValidator {
         }
     }
 
+    private void validateOnBatchParameter(RequiredParameterNode requiredParameterNode, Node parameterTypeName,
+                                          boolean hasCaller) {
+        boolean hasDatagramArray = parameterTypeName.toString().replace(" ", "")
+                .contains(modulePrefix + DATAGRAM + ARRAY);
+        if ((parameterTypeName.kind() == SyntaxKind.INTERSECTION_TYPE_DESC && hasDatagramArray)
+                || (parameterTypeName.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE && hasCaller)) {
+            return;
+        }
+        DiagnosticInfo diagnosticInfo;
+        if (hasDatagramArray) {
+            diagnosticInfo = new DiagnosticInfo(CODE_104, INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2,
+                    DiagnosticSeverity.ERROR);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                    requiredParameterNode.location(), requiredParameterNode, Constants.ON_BATCH,
+                    READONLY_INTERSECTION + modulePrefix + DATAGRAM + ARRAY));
+        } else {
+            diagnosticInfo = new DiagnosticInfo(CODE_104, INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION,
+                    DiagnosticSeverity.ERROR);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                    requiredParameterNode.location(), requiredParameterNode, Constants.ON_BATCH));
+        }
+    }
+
     private boolean hasValidParameterCount(int parameterCount, String functionName) {
         DiagnosticInfo diagnosticInfo;
         if (functionName.equals(Constants.ON_BYTES) && parameterCount > 2) {
@@ -277,6 +323,12 @@ public class UdpServiceValidator {
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                     onDatagramFunctionNode.location(), parameterCount, functionName, 2));
             return false;
+        } else if (functionName.equals(Constants.ON_BATCH) && parameterCount > 2) {
+            diagnosticInfo = new DiagnosticInfo(CODE_104, PROVIDED_0_PARAMETERS_1_CAN_HAVE_ONLY_2_PARAMETERS,
+                    DiagnosticSeverity.ERROR);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                    onBatchFunctionNode.location(), parameterCount, functionName, 2));
+            return false;
         } else if (functionName.equals(Constants.ON_ERROR) && parameterCount > 1) {
             diagnosticInfo = new DiagnosticInfo(CODE_104, PROVIDED_0_PARAMETERS_1_CAN_HAVE_ONLY_2_PARAMETERS,
                     DiagnosticSeverity.ERROR);
@@ -304,7 +356,9 @@ public class UdpServiceValidator {
             return;
         }
 
-        if (functionName.equals(Constants.ON_ERROR) && returnTypeDescriptor.kind() == SyntaxKind.OPTIONAL_TYPE_DESC
+        // onError and onBatch can only return an error
+        if ((functionName.equals(Constants.ON_ERROR) || functionName.equals(Constants.ON_BATCH))
+                && returnTypeDescriptor.kind() == SyntaxKind.OPTIONAL_TYPE_DESC
                 && (Utils.equals(returnTypeDescriptorType, modulePrefix + ERROR + OPTIONAL)
                 || Utils.equals(returnTypeDescriptorType, GENERIC_ERROR + OPTIONAL))) {
             return;
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AddressCache} caches the resolved addresses of the remote hosts the datagrams are sent to, so that a
+ * hostname is not looked up on every send.
+ */
+public final class AddressCache {
+
+    private AddressCache() {}
+
+    private static final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static volatile int maxEntries = 1024;
+    private static volatile long ttlNanos = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * Configures the cache from the `addressCache` configurable of the module.
+     *
+     * @param config the ballerina address cache configuration
+     * @return a udp error if the configuration is invalid, else null
+     */
+    public static Object init(BMap<BString, Object> config) {
+        long configuredMaxEntries = config.getIntValue(StringUtils.fromString(Constants.CONFIG_CACHE_MAX_ENTRIES));
+        if (configuredMaxEntries < 0 || configuredMaxEntries > Integer.MAX_VALUE) {
+            return Utils.createUdpError("The maxEntries of the address cache should not be negative.");
+        }
+        double ttl = ((BDecimal) config.get(StringUtils.fromString(Constants.CONFIG_CACHE_TTL))).floatValue();
+        if (ttl < 0) {
+            return Utils.createUdpError("The ttl of the address cache should not be negative.");
+        }
+        maxEntries = (int) configuredMaxEntries;
+        ttlNanos = (long) (ttl * TimeUnit.SECONDS.toNanos(1));
+        entries.clear();
+        return null;
+    }
+
+    /**
+     * Gets the address of a remote host, resolving the host only if it is not cached or its entry has expired.
+     * An address which can't be resolved is not cached.
+     *
+     * @param host the hostname or the IP address of the remote host
+     * @param port the port of the remote host
+     * @return the address of the remote host, which is unresolved if the host can't be resolved
+     */
+    public static InetSocketAddress resolve(String host, int port) {
+        if (maxEntries == 0 || ttlNanos == 0) {
+            return new InetSocketAddress(host, port);
+        }
+        Key key = new Key(host, port);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.expiresAt < 0) {
+            hits.increment();
+            return entry.address;
+        }
+        misses.increment();
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        if (!address.isUnresolved()) {
+            if (entry == null && entries.size() >= maxEntries) {
+                evict(now);
+            }
+            entries.put(key, new Entry(address, now + ttlNanos));
+        }
+        return address;
+    }
+
+    // drops the expired entries, or an arbitrary entry if none has expired
+    private static void evict(long now) {
+        entries.values().removeIf(entry -> now - entry.expiresAt >= 0);
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * Gets the counters of the cache.
+     *
+     * @return the ballerina `AddressCacheMetrics` record
+     */
+    public static BMap<BString, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put(Constants.METRICS_CACHE_HITS, hits.sum());
+        metrics.put(Constants.METRICS_CACHE_MISSES, misses.sum());
+        metrics.put(Constants.METRICS_CACHE_SIZE, (long) entries.size());
+        return ValueCreator.createRecordValue(Utils.getUdpPackage(), Constants.ADDRESS_CACHE_METRICS_RECORD,
+                metrics);
+    }
+
+    private static final class Key {
+
+        private final String host;
+        private final int port;
+
+        private Key(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return port == key.port && host.equals(key.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * host.hashCode() + port;
+        }
+    }
+
+    private static final class Entry {
+
+        private final InetSocketAddress address;
+        private final long expiresAt;
+
+        private Entry(InetSocketAddress address, long expiresAt) {
+            this.address = address;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link BufferAllocator} holds the pooled allocator of the buffers the datagrams are sent from and received into.
+ */
+public final class BufferAllocator {
+
+    private BufferAllocator() {}
+
+    private static volatile PooledByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+
+    /**
+     * Creates the allocator from the `bufferAllocator` configurable of the module.
+     *
+     * @param config the ballerina buffer allocator configuration
+     * @return a udp error if the configuration is invalid, else null
+     */
+    public static Object init(BMap<BString, Object> config) {
+        try {
+            allocator = new PooledByteBufAllocator(true,
+                    getIntValue(config, Constants.CONFIG_ALLOCATOR_HEAP_ARENAS,
+                            PooledByteBufAllocator.defaultNumHeapArena()),
+                    getIntValue(config, Constants.CONFIG_ALLOCATOR_DIRECT_ARENAS,
+                            PooledByteBufAllocator.defaultNumDirectArena()),
+                    getIntValue(config, Constants.CONFIG_ALLOCATOR_PAGE_SIZE, PooledByteBufAllocator.defaultPageSize()),
+                    getIntValue(config, Constants.CONFIG_ALLOCATOR_MAX_ORDER, PooledByteBufAllocator.defaultMaxOrder()),
+                    PooledByteBufAllocator.defaultSmallCacheSize(), PooledByteBufAllocator.defaultNormalCacheSize(),
+                    config.getBooleanValue(StringUtils.fromString(Constants.CONFIG_ALLOCATOR_CACHE_FOR_ALL_THREADS)));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createUdpError("Invalid buffer allocator configuration: " + e.getMessage());
+        }
+    }
+
+    private static int getIntValue(BMap<BString, Object> config, String field, int defaultValue) {
+        Long value = config.getIntValue(StringUtils.fromString(field));
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The " + field + " should not be negative.");
+        }
+        return (int) value.longValue();
+    }
+
+    public static PooledByteBufAllocator get() {
+        return allocator;
+    }
+
+    /**
+     * Copies the data into a pooled direct buffer, so that the transports can write it without another copy.
+     *
+     * @param data the data to be sent
+     * @return the buffer holding the data
+     */
+    public static ByteBuf copyOf(byte[] data) {
+        return allocator.directBuffer(data.length).writeBytes(data);
+    }
+
+    /**
+     * Gets the metrics of the allocator.
+     *
+     * @return the ballerina `BufferAllocatorMetrics` record
+     */
+    public static BMap<BString, Object> getMetrics() {
+        PooledByteBufAllocatorMetric metric = allocator.metric();
+        long directAllocations = 0;
+        long activeDirectAllocations = 0;
+        for (PoolArenaMetric arena : metric.directArenas()) {
+            directAllocations += arena.numAllocations();
+            activeDirectAllocations += arena.numActiveAllocations();
+        }
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put(Constants.METRICS_DIRECT_ARENAS, (long) metric.numDirectArenas());
+        metrics.put(Constants.METRICS_HEAP_ARENAS, (long) metric.numHeapArenas());
+        metrics.put(Constants.METRICS_THREAD_LOCAL_CACHES, (long) metric.numThreadLocalCaches());
+        metrics.put(Constants.METRICS_CHUNK_SIZE, (long) metric.chunkSize());
+        metrics.put(Constants.METRICS_USED_DIRECT_MEMORY, metric.usedDirectMemory());
+        metrics.put(Constants.METRICS_USED_HEAP_MEMORY, metric.usedHeapMemory());
+        metrics.put(Constants.METRICS_DIRECT_ALLOCATIONS, directAllocations);
+        metrics.put(Constants.METRICS_ACTIVE_DIRECT_ALLOCATIONS, activeDirectAllocations);
+        return ValueCreator.createRecordValue(Utils.getUdpPackage(), Constants.BUFFER_ALLOCATOR_METRICS_RECORD,
+                metrics);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link CallerCache} keeps the `udp:Caller` objects of the remote hosts a listener channel has recently received
+ * datagrams from, so that a remote host which keeps sending is given the same caller instead of a new one for every
+ * datagram. A caller carries the address of its remote host, which the replies are sent to without resolving it.
+ * The cache is only used on the event loop of its channel.
+ */
+public final class CallerCache {
+
+    private static final AttributeKey<CallerCache> CALLER_CACHE = AttributeKey.valueOf("udpCallerCache");
+    // the least recently seen remote host is evicted beyond this
+    private static final int MAX_CALLERS = 1024;
+    private static final BString CALLER_REMOTE_HOST = StringUtils.fromString(Constants.CALLER_REMOTE_HOST);
+
+    private final Channel channel;
+    private final boolean reverseLookup;
+    private final Map<InetSocketAddress, BObject> callers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<InetSocketAddress, BObject> eldest) {
+            return size() > MAX_CALLERS;
+        }
+    };
+    private BObject batchCaller;
+
+    private CallerCache(Channel channel) {
+        this.channel = channel;
+        this.reverseLookup = SocketConfig.of(channel).isReverseLookup();
+    }
+
+    public static CallerCache of(Channel channel) {
+        CallerCache callerCache = channel.attr(CALLER_CACHE).get();
+        if (callerCache == null) {
+            callerCache = new CallerCache(channel);
+            channel.attr(CALLER_CACHE).set(callerCache);
+        }
+        return callerCache;
+    }
+
+    /**
+     * Gets the caller of a remote host.
+     *
+     * @param remoteAddress the address of the remote host
+     * @return the caller which replies to the remote host
+     */
+    public BObject get(InetSocketAddress remoteAddress) {
+        BObject caller = callers.get(remoteAddress);
+        if (caller == null) {
+            caller = cacheCaller(remoteAddress, HostNames.of(remoteAddress, reverseLookup));
+        } else if (reverseLookup) {
+            // the name of the remote host may have been looked up since the caller was created, and as the
+            // caller may be in use by other calls, a new caller is created instead of updating its fields
+            BString remoteHost = HostNames.of(remoteAddress, true);
+            if (!remoteHost.equals(caller.get(CALLER_REMOTE_HOST))) {
+                caller = cacheCaller(remoteAddress, remoteHost);
+            }
+        }
+        return caller;
+    }
+
+    /**
+     * Gets the caller of the onBatch calls, which has no remote host as a batch may hold the datagrams of many.
+     *
+     * @return the caller of the batches of the channel
+     */
+    public BObject getBatchCaller() {
+        if (batchCaller == null) {
+            batchCaller = newCaller(null, null);
+        }
+        return batchCaller;
+    }
+
+    private BObject cacheCaller(InetSocketAddress remoteAddress, BString remoteHost) {
+        BObject caller = newCaller(remoteHost, (long) remoteAddress.getPort());
+        caller.addNativeData(Constants.CALLER_REMOTE_ADDRESS, remoteAddress);
+        callers.put(remoteAddress, caller);
+        return caller;
+    }
+
+    private BObject newCaller(BString remoteHost, Long remotePort) {
+        BObject caller = ValueCreator.createObjectValue(Utils.getUdpPackage(), Constants.CALLER, remoteHost,
+                remotePort);
+        caller.addNativeData(Constants.CHANNEL, channel);
+        return caller;
+    }
+}
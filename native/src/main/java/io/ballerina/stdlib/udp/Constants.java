@@ -41,15 +41,101 @@ public final class Constants {
     public static final String CONFIG_LOCALHOST = "localHost";
     public static final String CONFIG_REMOTE_HOST = "remoteHost";
     public static final String CONFIG_REMOTE_PORT = "remotePort";
+    public static final String CONFIG_TRANSPORT = "transport";
+    public static final String CONFIG_CHANNEL_COUNT = "channelCount";
+    public static final String CONFIG_EVENT_LOOP_GROUP = "eventLoopGroup";
+    public static final String CONFIG_RECEIVE_BATCH_SIZE = "receiveBatchSize";
+    public static final String CONFIG_GSO_SEGMENT_SIZE = "gsoSegmentSize";
+    public static final String CONFIG_GRO_ENABLED = "groEnabled";
+    public static final String CONFIG_READ_BUFFER = "readBuffer";
+    public static final String CONFIG_RECEIVE_BUFFER_SIZE = "receiveBufferSize";
+    public static final String CONFIG_SEND_BUFFER_SIZE = "sendBufferSize";
+    public static final String CONFIG_TRAFFIC_CLASS = "trafficClass";
+    public static final String CONFIG_WRITE_BUFFER_WATER_MARK = "writeBufferWaterMark";
+
+    // Constant related to ballerina ReadBufferConfiguration record
+    public static final String CONFIG_READ_BUFFER_ALLOCATION = "allocation";
+    public static final String CONFIG_READ_BUFFER_SIZE = "size";
+    public static final String CONFIG_READ_BUFFER_MAX_SIZE = "maxSize";
+    public static final String READ_BUFFER_ADAPTIVE = "ADAPTIVE";
+
+    // Constant related to ballerina WriteBufferWaterMark record
+    public static final String CONFIG_WATER_MARK_LOW = "low";
+    public static final String CONFIG_WATER_MARK_HIGH = "high";
+    public static final String CONFIG_REVERSE_LOOKUP = "reverseLookup";
+    public static final String CONFIG_SEND_QUEUE = "sendQueue";
+    public static final String CONFIG_PREFETCH = "prefetch";
+    public static final String CONFIG_PREFETCH_CAPACITY = "capacity";
+    public static final String CONFIG_DISPATCH = "dispatch";
+    public static final String CONFIG_DISPATCH_MAX_IN_FLIGHT = "maxInFlight";
+    public static final String CONFIG_DISPATCH_QUEUE_CAPACITY = "queueCapacity";
+    public static final String CONFIG_DISPATCH_OVERLOAD_POLICY = "overloadPolicy";
+    public static final String CONFIG_ORDERED_DISPATCH = "orderedDispatch";
+    public static final String CONFIG_ORDERED_DISPATCH_LANE_COUNT = "laneCount";
+    public static final String CONFIG_ORDERED_DISPATCH_PAYLOAD_KEY = "payloadKey";
+    public static final String CONFIG_PAYLOAD_KEY_OFFSET = "offset";
+    public static final String CONFIG_PAYLOAD_KEY_LENGTH = "length";
+    public static final String CONFIG_BATCH_DELIVERY = "batchDelivery";
+    public static final String CONFIG_BATCH_DELIVERY_MAX_COUNT = "maxCount";
+    public static final String CONFIG_BATCH_DELIVERY_LINGER_TIME = "lingerTime";
+    public static final String CONFIG_SEND_QUEUE_MAX_PENDING_BYTES = "maxPendingBytes";
+    public static final String CONFIG_SEND_QUEUE_ON_FULL = "onFull";
+    public static final String CONFIG_SEND_QUEUE_WAIT_TIMEOUT = "waitTimeout";
+    public static final String SEND_QUEUE_FULL_WAIT = "WAIT";
+    public static final String CONFIG_WRITE_BATCHING = "writeBatching";
+    public static final String CONFIG_WRITE_BATCHING_MAX_PENDING_FLUSHES = "maxPendingFlushes";
+
+    // Constant related to ballerina EventLoopGroupConfiguration record
+    public static final String CONFIG_GROUP_NAME = "name";
+    public static final String CONFIG_GROUP_THREAD_COUNT = "threadCount";
+
+    // Constant related to ballerina BufferAllocatorConfiguration record
+    public static final String CONFIG_ALLOCATOR_DIRECT_ARENAS = "directArenas";
+    public static final String CONFIG_ALLOCATOR_HEAP_ARENAS = "heapArenas";
+    public static final String CONFIG_ALLOCATOR_PAGE_SIZE = "pageSize";
+    public static final String CONFIG_ALLOCATOR_MAX_ORDER = "maxOrder";
+    public static final String CONFIG_ALLOCATOR_CACHE_FOR_ALL_THREADS = "useCacheForAllThreads";
+
+    // Constant related to ballerina BufferAllocatorMetrics record
+    public static final String BUFFER_ALLOCATOR_METRICS_RECORD = "BufferAllocatorMetrics";
+    public static final String METRICS_DIRECT_ARENAS = "directArenas";
+    public static final String METRICS_HEAP_ARENAS = "heapArenas";
+    public static final String METRICS_THREAD_LOCAL_CACHES = "threadLocalCaches";
+    public static final String METRICS_CHUNK_SIZE = "chunkSize";
+    public static final String METRICS_USED_DIRECT_MEMORY = "usedDirectMemory";
+    public static final String METRICS_USED_HEAP_MEMORY = "usedHeapMemory";
+    public static final String METRICS_DIRECT_ALLOCATIONS = "directAllocations";
+    public static final String METRICS_ACTIVE_DIRECT_ALLOCATIONS = "activeDirectAllocations";
+
+    // Constant related to ballerina AddressCacheConfiguration record
+    public static final String CONFIG_CACHE_MAX_ENTRIES = "maxEntries";
+    public static final String CONFIG_CACHE_TTL = "ttl";
+
+    // Constant related to ballerina AddressCacheMetrics record
+    public static final String ADDRESS_CACHE_METRICS_RECORD = "AddressCacheMetrics";
+    public static final String METRICS_CACHE_HITS = "hits";
+    public static final String METRICS_CACHE_MISSES = "misses";
+    public static final String METRICS_CACHE_SIZE = "size";
+
+    // Constant related to ballerina BatchSendErrorDetail record
+    public static final String BATCH_SEND_ERROR_DETAIL_RECORD = "BatchSendErrorDetail";
+    public static final String ERROR_FAILED_INDEXES = "failedIndexes";
+
+    // Constant related to ballerina Statistics record
+    public static final String STATISTICS_RECORD = "Statistics";
+    public static final String STATISTICS_TRUNCATED_DATAGRAMS = "truncatedDatagrams";
+    public static final String STATISTICS_DROPPED_DATAGRAMS = "droppedDatagrams";
 
     // Constant handler names
-    public static final String READ_TIMEOUT_HANDLER = "readTimeoutHandler";
+    public static final String SEND_QUEUE_HANDLER = "sendQueue";
+    public static final String FLUSH_CONSOLIDATION_HANDLER = "flushConsolidationHandler";
     public static final String CONNECTIONLESS_CLIENT_HANDLER = "clientHandler";
     public static final String CONNECT_CLIENT_HANDLER = "connectClientHandler";
     public static final String LISTENER_HANDLER = "udpListenerHandler";
 
     // Remote method names of ballerina service object
     public static final String ON_BYTES = "onBytes";
+    public static final String ON_BATCH = "onBatch";
     public static final String ON_DATAGRAM = "onDatagram";
     public static final String ON_ERROR = "onError";
 
@@ -62,7 +148,18 @@ public final class Constants {
     public static final String SERVICE = "service";
     public static final String LOCAL_PORT = "localPort";
     public static final String CHANNEL = "Channel";
+    public static final String CALLER_REMOTE_ADDRESS = "RemoteAddress";
     public static final int DATAGRAM_DATA_SIZE = 8192;
+    // size of the buffer a received datagram is read into, same as the netty default for datagram channels
+    public static final int DATAGRAM_RECEIVE_SIZE = 2048;
+    // recvmmsg can't fill more messages than the kernel's UIO_MAXIOV in a single call
+    public static final int MAX_RECEIVE_BATCH_SIZE = 1024;
+    // largest udp payload which fits in an ipv4 datagram
+    public static final int MAX_DATAGRAM_PAYLOAD_SIZE = 65507;
+    // UDP_MAX_SEGMENTS of the kernel, the number of segments a single segmented datagram can carry
+    public static final int MAX_GSO_SEGMENTS = 64;
+    // largest datagram the kernel hands over when it coalesces received datagrams with UDP_GRO
+    public static final int MAX_COALESCED_DATAGRAM_SIZE = 65535;
     public static final String READ_ONLY_BYTE_ARRAY = "(byte[] & readonly)";
     public static final String READ_ONLY_DATAGRAM = "(udp:Datagram & readonly)";
     public static final String BYTE_ARRAY = "byte[]";
@@ -74,7 +171,8 @@ public final class Constants {
      */
     public enum ErrorType {
 
-        Error("Error");
+        Error("Error"),
+        BatchSendError("BatchSendError");
 
         private final String errorType;
 
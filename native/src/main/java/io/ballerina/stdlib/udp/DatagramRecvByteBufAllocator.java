@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.DefaultMaxMessagesRecvByteBufAllocator;
+
+import java.util.function.IntConsumer;
+
+/**
+ * {@link DatagramRecvByteBufAllocator} sizes the buffers the received datagrams are read into and detects the
+ * datagrams which didn't fit in them.
+ */
+public class DatagramRecvByteBufAllocator extends DefaultMaxMessagesRecvByteBufAllocator {
+
+    // same as the netty datagram channels
+    private static final int DEFAULT_MAX_MESSAGES_PER_READ = 16;
+    // the adaptive buffer size is tuned in steps of a histogram bucket
+    private static final int BUCKET_SIZE = 64;
+    // number of datagrams received between two tunings of the adaptive buffer size
+    private static final int TUNING_INTERVAL = 1024;
+
+    private final boolean adaptive;
+    private final int minSize;
+    private final int maxSize;
+    private final IntConsumer truncationListener;
+
+    /**
+     * Creates an allocator.
+     *
+     * @param adaptive whether the buffer size is tuned from the sizes of the received datagrams
+     * @param minSize the buffer size, or the smallest buffer allocated if it is adaptive
+     * @param maxSize the largest buffer allocated if it is adaptive
+     * @param truncationListener called with the buffer size when a datagram fills up the whole buffer
+     */
+    public DatagramRecvByteBufAllocator(boolean adaptive, int minSize, int maxSize,
+                                        IntConsumer truncationListener) {
+        super(DEFAULT_MAX_MESSAGES_PER_READ);
+        this.adaptive = adaptive;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.truncationListener = truncationListener;
+    }
+
+    @Override
+    public Handle newHandle() {
+        return new DatagramHandle();
+    }
+
+    private final class DatagramHandle extends MaxMessageHandle {
+
+        private int nextSize = minSize;
+        // the received datagram sizes, halved on every tuning so that the sizes which stop showing up fade out
+        private final int[] histogram = adaptive ? new int[maxSize / BUCKET_SIZE + 1] : null;
+        private int received;
+
+        @Override
+        public int guess() {
+            return nextSize;
+        }
+
+        @Override
+        public void lastBytesRead(int bytes) {
+            // a datagram is read in a single call and the rest of a datagram which doesn't fit is discarded,
+            // so a read which fills the whole buffer may have lost data
+            if (bytes > 0 && bytes == attemptedBytesRead()) {
+                truncationListener.accept(bytes);
+                if (adaptive) {
+                    nextSize = maxSize;
+                }
+            } else if (adaptive && bytes > 0) {
+                record(bytes);
+            }
+            super.lastBytesRead(bytes);
+        }
+
+        private void record(int bytes) {
+            histogram[Math.min(bytes / BUCKET_SIZE, histogram.length - 1)]++;
+            if (++received == TUNING_INTERVAL) {
+                tune();
+            }
+        }
+
+        private void tune() {
+            int largestBucket = histogram.length - 1;
+            while (largestBucket > 0 && histogram[largestBucket] == 0) {
+                largestBucket--;
+            }
+            // the buffer is kept strictly larger than the datagrams of the largest bucket in use
+            nextSize = Math.min(maxSize, Math.max(minSize, (largestBucket + 1) * BUCKET_SIZE));
+            for (int i = 0; i <= largestBucket; i++) {
+                histogram[i] >>= 1;
+            }
+            received = 0;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.socket.DatagramPacket;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DispatchConfig} represents the limits, the ordering and the batching of the dispatch of the received
+ * datagrams to the service of a udp listener.
+ */
+public final class DispatchConfig {
+
+    /**
+     * Represents what is done with a received datagram when the dispatch queue is full.
+     */
+    public enum OverloadPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST,
+        BLOCK_READING
+    }
+
+    // same as the defaults of the ballerina batch delivery configuration
+    private static final int DEFAULT_BATCH_MAX_COUNT = 64;
+    private static final long DEFAULT_BATCH_LINGER_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    // listeners which don't configure the dispatch invoke the service for every datagram right away
+    public static final DispatchConfig UNBOUNDED = new DispatchConfig(Integer.MAX_VALUE, 0,
+            OverloadPolicy.DROP_NEWEST, 0, 0, 0);
+
+    // the datagrams are keyed by their sender unless a payload key is configured
+    private static final int SENDER_KEY = -1;
+
+    private final int maxInFlight;
+    private final int queueCapacity;
+    private final OverloadPolicy overloadPolicy;
+    private final int laneCount;
+    private final int payloadKeyOffset;
+    private final int payloadKeyLength;
+    private final int batchMaxCount;
+    private final long batchLingerNanos;
+
+    private DispatchConfig(int maxInFlight, int queueCapacity, OverloadPolicy overloadPolicy, int laneCount,
+                           int payloadKeyOffset, int payloadKeyLength) {
+        this(maxInFlight, queueCapacity, overloadPolicy, laneCount, payloadKeyOffset, payloadKeyLength,
+                DEFAULT_BATCH_MAX_COUNT, DEFAULT_BATCH_LINGER_NANOS);
+    }
+
+    private DispatchConfig(int maxInFlight, int queueCapacity, OverloadPolicy overloadPolicy, int laneCount,
+                           int payloadKeyOffset, int payloadKeyLength, int batchMaxCount, long batchLingerNanos) {
+        this.maxInFlight = maxInFlight;
+        this.queueCapacity = queueCapacity;
+        this.overloadPolicy = overloadPolicy;
+        this.laneCount = laneCount;
+        this.payloadKeyOffset = payloadKeyOffset;
+        this.payloadKeyLength = payloadKeyLength;
+        this.batchMaxCount = batchMaxCount;
+        this.batchLingerNanos = batchLingerNanos;
+    }
+
+    /**
+     * Reads the `dispatch`, the `orderedDispatch` and the `batchDelivery` fields of a listener configuration.
+     *
+     * @param config the ballerina listener configuration
+     * @return the dispatch configuration
+     * @throws IllegalArgumentException if a limit is out of range
+     */
+    public static DispatchConfig fromConfig(BMap<BString, Object> config) {
+        BString batchKey = StringUtils.fromString(Constants.CONFIG_BATCH_DELIVERY);
+        DispatchConfig dispatchConfig = fromDispatchConfig(config);
+        if (!config.containsKey(batchKey)) {
+            return dispatchConfig;
+        }
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> batch = (BMap<BString, Object>) config.getMapValue(batchKey);
+        double lingerTime = ((BDecimal) batch.get(
+                StringUtils.fromString(Constants.CONFIG_BATCH_DELIVERY_LINGER_TIME))).floatValue();
+        if (lingerTime < 0) {
+            throw new IllegalArgumentException("The lingerTime of the batch delivery should not be negative.");
+        }
+        return new DispatchConfig(dispatchConfig.maxInFlight, dispatchConfig.queueCapacity,
+                dispatchConfig.overloadPolicy, dispatchConfig.laneCount, dispatchConfig.payloadKeyOffset,
+                dispatchConfig.payloadKeyLength, getIntValue(batch, Constants.CONFIG_BATCH_DELIVERY_MAX_COUNT, 1),
+                (long) (lingerTime * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private static DispatchConfig fromDispatchConfig(BMap<BString, Object> config) {
+        BString dispatchKey = StringUtils.fromString(Constants.CONFIG_DISPATCH);
+        BString orderedKey = StringUtils.fromString(Constants.CONFIG_ORDERED_DISPATCH);
+        if (!config.containsKey(dispatchKey) && !config.containsKey(orderedKey)) {
+            return UNBOUNDED;
+        }
+        int maxInFlight = Integer.MAX_VALUE;
+        int queueCapacity = Integer.MAX_VALUE;
+        OverloadPolicy overloadPolicy = OverloadPolicy.DROP_NEWEST;
+        if (config.containsKey(dispatchKey)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> dispatch = (BMap<BString, Object>) config.getMapValue(dispatchKey);
+            maxInFlight = getIntValue(dispatch, Constants.CONFIG_DISPATCH_MAX_IN_FLIGHT, 1);
+            queueCapacity = getIntValue(dispatch, Constants.CONFIG_DISPATCH_QUEUE_CAPACITY, 0);
+            overloadPolicy = OverloadPolicy.valueOf(dispatch.getStringValue(
+                    StringUtils.fromString(Constants.CONFIG_DISPATCH_OVERLOAD_POLICY)).getValue());
+        }
+        if (!config.containsKey(orderedKey)) {
+            return new DispatchConfig(maxInFlight, queueCapacity, overloadPolicy, 0, 0, 0);
+        }
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> ordered = (BMap<BString, Object>) config.getMapValue(orderedKey);
+        int laneCount = getIntValue(ordered, Constants.CONFIG_ORDERED_DISPATCH_LANE_COUNT, 1);
+        BString payloadKey = StringUtils.fromString(Constants.CONFIG_ORDERED_DISPATCH_PAYLOAD_KEY);
+        if (!ordered.containsKey(payloadKey)) {
+            return new DispatchConfig(maxInFlight, queueCapacity, overloadPolicy, laneCount, 0, SENDER_KEY);
+        }
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> payload = (BMap<BString, Object>) ordered.getMapValue(payloadKey);
+        return new DispatchConfig(maxInFlight, queueCapacity, overloadPolicy, laneCount,
+                getIntValue(payload, Constants.CONFIG_PAYLOAD_KEY_OFFSET, 0),
+                getIntValue(payload, Constants.CONFIG_PAYLOAD_KEY_LENGTH, 1));
+    }
+
+    private static int getIntValue(BMap<BString, Object> config, String field, int min) {
+        long value = config.getIntValue(StringUtils.fromString(field));
+        if (value < min || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The " + field + " of the dispatch should not be less than " + min
+                    + ".");
+        }
+        return (int) value;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public OverloadPolicy getOverloadPolicy() {
+        return overloadPolicy;
+    }
+
+    public boolean isUnbounded() {
+        return maxInFlight == Integer.MAX_VALUE && !isOrdered();
+    }
+
+    public boolean isOrdered() {
+        return laneCount > 0;
+    }
+
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    public int getBatchMaxCount() {
+        return batchMaxCount;
+    }
+
+    // zero if a batch is delivered once the read loop of the channel ends
+    public long getBatchLingerNanos() {
+        return batchLingerNanos;
+    }
+
+    /**
+     * Gets the ordering key of a received datagram. The datagrams with the same key are dispatched in order.
+     *
+     * @param datagramPacket the received datagram
+     * @return the key of the datagram
+     */
+    public int keyOf(DatagramPacket datagramPacket) {
+        if (payloadKeyLength == SENDER_KEY) {
+            return datagramPacket.sender().hashCode();
+        }
+        // datagrams too short for the whole key are keyed by the part of the key they hold
+        ByteBuf content = datagramPacket.content();
+        int from = content.readerIndex() + Math.min(payloadKeyOffset, content.readableBytes());
+        int length = Math.min(payloadKeyLength, content.writerIndex() - from);
+        int hash = ByteBufUtil.hashCode(content.slice(from, length));
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.Channel;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * {@link DispatchStage} limits the service calls of a udp listener which run at the same time. The calls beyond
+ * the limit wait in a bounded queue, and once the queue is full the {@link DispatchConfig.OverloadPolicy} decides
+ * whether a call is dropped or the listener stops reading until the queue drains. With ordered dispatch, the calls
+ * are spread by the key of their datagram across a fixed set of lanes, each of which runs its calls one at a time.
+ */
+public class DispatchStage {
+
+    private final DispatchConfig config;
+    private final UdpStatistics statistics;
+    private final List<Channel> channels;
+    private final ArrayDeque<Call> queue = new ArrayDeque<>();
+    private final Lane[] lanes;
+    private int inFlight;
+    // the calls waiting in the lanes
+    private int queued;
+    private boolean readingPaused;
+
+    /**
+     * Creates a dispatch stage.
+     *
+     * @param config the limits of the dispatch
+     * @param statistics the counters of the listener, which count the dropped datagrams
+     * @param channels the channels of the listener, which stop reading while the queue is full
+     */
+    public DispatchStage(DispatchConfig config, UdpStatistics statistics, List<Channel> channels) {
+        this.config = config;
+        this.statistics = statistics;
+        this.channels = channels;
+        this.lanes = config.isOrdered() ? new Lane[config.getLaneCount()] : null;
+        if (lanes != null) {
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = new Lane();
+            }
+        }
+    }
+
+    public DispatchConfig getConfig() {
+        return config;
+    }
+
+    public boolean isOrdered() {
+        return lanes != null;
+    }
+
+    // whether the listener stopped reading from its sockets until the queue drains
+    public synchronized boolean isReadingPaused() {
+        return readingPaused;
+    }
+
+    /**
+     * Runs the service call of a received datagram after the calls of the earlier datagrams with the same key.
+     *
+     * @param call the service call
+     * @param key the ordering key of the datagram, taken before the call is created
+     */
+    public void submitOrdered(Runnable call, int key) {
+        Lane lane = lanes[Math.floorMod(key, lanes.length)];
+        Call dropped = null;
+        synchronized (this) {
+            if (!lane.running) {
+                lane.running = true;
+            } else if (queued < config.getQueueCapacity()) {
+                lane.queue.add(new Call(call, 1));
+                queued++;
+                if (queued == config.getQueueCapacity()
+                        && config.getOverloadPolicy() == DispatchConfig.OverloadPolicy.BLOCK_READING) {
+                    setReadingPaused(true);
+                }
+                return;
+            } else {
+                switch (config.getOverloadPolicy()) {
+                    case DROP_OLDEST:
+                        // only the oldest datagram of the same key can make room without breaking the order
+                        if (lane.queue.isEmpty()) {
+                            dropped = new Call(call, 1);
+                        } else {
+                            dropped = lane.queue.poll();
+                            lane.queue.add(new Call(call, 1));
+                        }
+                        break;
+                    case BLOCK_READING:
+                        lane.queue.add(new Call(call, 1));
+                        queued++;
+                        setReadingPaused(true);
+                        return;
+                    default:
+                        dropped = new Call(call, 1);
+                        break;
+                }
+            }
+        }
+        if (dropped != null) {
+            statistics.recordDroppedDatagrams(dropped.datagramCount);
+            return;
+        }
+        Thread.startVirtualThread(() -> runLane(lane, call));
+    }
+
+    /**
+     * Runs a service call on a virtual thread, or queues it if the limit of the calls in flight is reached.
+     *
+     * @param call the service call
+     * @param datagramCount the number of datagrams the call dispatches
+     */
+    public void submit(Runnable call, int datagramCount) {
+        if (config.isUnbounded()) {
+            Thread.startVirtualThread(call);
+            return;
+        }
+        Call dropped = null;
+        synchronized (this) {
+            if (inFlight < config.getMaxInFlight()) {
+                inFlight++;
+            } else if (queue.size() < config.getQueueCapacity()) {
+                queue.add(new Call(call, datagramCount));
+                if (queue.size() == config.getQueueCapacity()
+                        && config.getOverloadPolicy() == DispatchConfig.OverloadPolicy.BLOCK_READING) {
+                    setReadingPaused(true);
+                }
+                return;
+            } else {
+                switch (config.getOverloadPolicy()) {
+                    case DROP_OLDEST:
+                        if (queue.isEmpty()) {
+                            dropped = new Call(call, datagramCount);
+                        } else {
+                            dropped = queue.poll();
+                            queue.add(new Call(call, datagramCount));
+                        }
+                        break;
+                    case BLOCK_READING:
+                        // the datagrams of the read loop in progress still arrive after the reading is paused
+                        queue.add(new Call(call, datagramCount));
+                        setReadingPaused(true);
+                        return;
+                    default:
+                        dropped = new Call(call, datagramCount);
+                        break;
+                }
+            }
+        }
+        if (dropped != null) {
+            statistics.recordDroppedDatagrams(dropped.datagramCount);
+            return;
+        }
+        Thread.startVirtualThread(() -> run(call));
+    }
+
+    // runs the queued calls on the same virtual thread until the queue is empty
+    private void run(Runnable call) {
+        Runnable next = call;
+        while (next != null) {
+            try {
+                next.run();
+            } finally {
+                next = poll();
+            }
+        }
+    }
+
+    private void runLane(Lane lane, Runnable call) {
+        Runnable next = call;
+        while (next != null) {
+            try {
+                next.run();
+            } finally {
+                next = poll(lane);
+            }
+        }
+    }
+
+    private synchronized Runnable poll(Lane lane) {
+        Call call = lane.queue.poll();
+        if (call == null) {
+            lane.running = false;
+        } else {
+            queued--;
+        }
+        if (readingPaused && queued <= config.getQueueCapacity() / 2) {
+            setReadingPaused(false);
+        }
+        return call == null ? null : call.runnable;
+    }
+
+    private synchronized Runnable poll() {
+        Call call = queue.poll();
+        if (call == null) {
+            inFlight--;
+        }
+        if (readingPaused && queue.size() <= config.getQueueCapacity() / 2) {
+            setReadingPaused(false);
+        }
+        return call == null ? null : call.runnable;
+    }
+
+    private void setReadingPaused(boolean paused) {
+        if (readingPaused == paused) {
+            return;
+        }
+        readingPaused = paused;
+        for (Channel channel : channels) {
+            channel.config().setAutoRead(!paused);
+        }
+    }
+
+    private static final class Lane {
+
+        private final ArrayDeque<Call> queue = new ArrayDeque<>();
+        private boolean running;
+    }
+
+    private static final class Call {
+
+        private final Runnable runnable;
+        private final int datagramCount;
+
+        private Call(Runnable runnable, int datagramCount) {
+            this.runnable = runnable;
+            this.datagramCount = datagramCount;
+        }
+    }
+}
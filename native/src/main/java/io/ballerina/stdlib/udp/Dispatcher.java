@@ -22,26 +22,19 @@ import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.socket.DatagramPacket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetSocketAddress;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Dispatch async methods.
@@ -52,33 +45,31 @@ public final class Dispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(Dispatcher.class);
 
-    private static void invokeOnBytes(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
-                                      Type[] parameterTypes) {
+    private static Runnable createOnBytesCall(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
+                                              int[] parameterTags) {
         try {
-            Object[] params = getOnBytesSignature(datagramPacket, channel, parameterTypes);
-            invokeAsyncCall(udpService, datagramPacket, channel, Constants.ON_BYTES, params);
+            Object[] params = getOnBytesSignature(datagramPacket, channel, parameterTags);
+            return createCall(udpService, datagramPacket, channel, Constants.ON_BYTES, params);
         } catch (BError e) {
             Dispatcher.invokeOnError(udpService, e.getMessage());
+            return null;
         }
     }
 
-    private static void invokeOnDatagram(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
-                                         Type[] parameterTypes) {
+    private static Runnable createOnDatagramCall(UdpService udpService, DatagramPacket datagramPacket,
+                                                 Channel channel, int[] parameterTags) {
         try {
-            Object[] params = getOnDatagramSignature(datagramPacket, channel, parameterTypes);
-            invokeAsyncCall(udpService, datagramPacket, channel, Constants.ON_DATAGRAM, params);
+            Object[] params = getOnDatagramSignature(datagramPacket, channel, parameterTags);
+            return createCall(udpService, datagramPacket, channel, Constants.ON_DATAGRAM, params);
         } catch (BError e) {
             Dispatcher.invokeOnError(udpService, e.getMessage());
+            return null;
         }
     }
 
     public static void invokeOnError(UdpService udpService, String message) {
         try {
-            ObjectType objectType =
-                    (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(udpService.getService()));
-            MethodType methodType = Arrays.stream(objectType.getMethods()).
-                    filter(m -> m.getName().equals(Constants.ON_ERROR)).findFirst().orElse(null);
-            if (methodType != null) {
+            if (udpService.hasOnError()) {
                 Object[] params = getOnErrorSignature(message);
                 invokeAsyncCall(udpService, null, null, Constants.ON_ERROR, params);
             }
@@ -89,12 +80,15 @@ public final class Dispatcher {
 
     private static void invokeAsyncCall(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
                                         String methodName, Object[] params) {
-        Thread.startVirtualThread(() -> {
+        Thread.startVirtualThread(createCall(udpService, datagramPacket, channel, methodName, params));
+    }
+
+    private static Runnable createCall(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
+                                       String methodName, Object[] params) {
+        return () -> {
             BObject service = udpService.getService();
             Runtime runtime = udpService.getRuntime();
-            ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-            StrandMetadata metadata = new StrandMetadata(
-                    objectType.isIsolated() && objectType.isIsolated(methodName), null);
+            StrandMetadata metadata = udpService.getStrandMetadata(methodName);
             Object result;
             try {
                 result = runtime.callMethod(service, methodName, metadata, params);
@@ -104,23 +98,19 @@ public final class Dispatcher {
             } catch (Throwable throwable) {
                 handleError(ErrorCreator.createError(throwable));
             }
-        });
+        };
     }
 
-    private static Object[] getOnBytesSignature(DatagramPacket datagramPacket, Channel channel, Type[] parameterTypes) {
-        byte[] byteContent = new byte[datagramPacket.content().readableBytes()];
-        datagramPacket.content().readBytes(byteContent);
-
-        Object[] bValues = new Object[parameterTypes.length];
+    private static Object[] getOnBytesSignature(DatagramPacket datagramPacket, Channel channel, int[] parameterTags) {
+        Object[] bValues = new Object[parameterTags.length];
         int index = 0;
-        for (Type param : parameterTypes) {
-            int paramTag = param.getTag();
+        for (int paramTag : parameterTags) {
             switch (paramTag) {
                 case TypeTags.INTERSECTION_TAG:
-                    bValues[index++] = ValueCreator.createReadonlyArrayValue(byteContent);
+                    bValues[index++] = Utils.getReadonlyBytesFromDatagram(datagramPacket);
                     break;
                 case TypeTags.OBJECT_TYPE_TAG:
-                    bValues[index++] = createClient(datagramPacket, channel);
+                    bValues[index++] = CallerCache.of(channel).get(datagramPacket.sender());
                     break;
                 default:
                     break;
@@ -130,17 +120,39 @@ public final class Dispatcher {
     }
 
     private static Object[] getOnDatagramSignature(DatagramPacket datagramPacket, Channel channel,
-                                                   Type[] parameterTypes) {
-        Object[] bValues = new Object[parameterTypes.length];
+                                                   int[] parameterTags) {
+        Object[] bValues = new Object[parameterTags.length];
         int index = 0;
-        for (Type param : parameterTypes) {
-            int paramTag = param.getTag();
+        for (int paramTag : parameterTags) {
             switch (paramTag) {
                 case TypeTags.INTERSECTION_TAG:
-                    bValues[index++] = Utils.createReadOnlyDatagramWithSenderAddress(datagramPacket);
+                    bValues[index++] = Utils.createReadOnlyDatagramWithSenderAddress(datagramPacket,
+                            SocketConfig.of(channel).isReverseLookup());
                     break;
                 case TypeTags.OBJECT_TYPE_TAG:
-                    bValues[index++] = createClient(datagramPacket, channel);
+                    bValues[index++] = CallerCache.of(channel).get(datagramPacket.sender());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return bValues;
+    }
+
+    private static Object[] getOnBatchSignature(List<BMap<BString, Object>> datagrams, UdpService udpService,
+                                                Channel channel) {
+        int[] parameterTags = udpService.getReadParameterTags();
+        Object[] bValues = new Object[parameterTags.length];
+        int index = 0;
+        for (int paramTag : parameterTags) {
+            switch (paramTag) {
+                case TypeTags.INTERSECTION_TAG:
+                    BArray batch = ValueCreator.createArrayValue(datagrams.toArray(), udpService.getBatchType());
+                    batch.freezeDirect();
+                    bValues[index++] = batch;
+                    break;
+                case TypeTags.OBJECT_TYPE_TAG:
+                    bValues[index++] = CallerCache.of(channel).getBatchCaller();
                     break;
                 default:
                     break;
@@ -153,58 +165,87 @@ public final class Dispatcher {
         return new Object[]{Utils.createUdpError(message)};
     }
 
-    private static BObject createClient(DatagramPacket datagramPacket, Channel channel) {
-        final BObject caller = ValueCreator.createObjectValue(Utils.getUdpPackage(), Constants.CALLER);
-        caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_PORT), datagramPacket.sender().getPort());
-        caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_HOST),
-                StringUtils.fromString(datagramPacket.sender().getHostName()));
-        caller.addNativeData(Constants.CHANNEL, channel);
-        return caller;
+    public static void invokeRead(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
+                                  DispatchStage dispatchStage) {
+        if (!dispatchStage.isOrdered()) {
+            Runnable call = createReadCall(udpService, datagramPacket, channel);
+            if (call != null) {
+                dispatchStage.submit(call, 1);
+            }
+            return;
+        }
+        // the key is taken before creating the call, which copies the data out of the datagram
+        int key = dispatchStage.getConfig().keyOf(datagramPacket);
+        Runnable call = createReadCall(udpService, datagramPacket, channel);
+        if (call != null) {
+            dispatchStage.submitOrdered(call, key);
+        }
     }
 
-    public static void invokeRead(UdpService udpService, DatagramPacket datagramPacket, Channel channel) {
-        ObjectType objectType =
-                (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(udpService.getService()));
-
-        for (MethodType method : objectType.getMethods()) {
-            switch (method.getName()) {
-                case Constants.ON_BYTES:
-                    Dispatcher.invokeOnBytes(udpService, datagramPacket, channel,
-                            getParameterTypes(method.getType().getParameters()));
-                    break;
-                case Constants.ON_DATAGRAM:
-                    Dispatcher.invokeOnDatagram(udpService, datagramPacket, channel,
-                            getParameterTypes(method.getType().getParameters()));
-                    break;
-                default:
-                    break;
+    /**
+     * Dispatches the datagrams received by a single read of the listener as a unit. The service method
+     * parameters are created before returning, so the caller may release the datagrams afterwards, and the
+     * service is then invoked for each datagram in order on a single virtual thread. With ordered dispatch, each
+     * datagram is instead dispatched in the lane of its key.
+     *
+     * @param udpService the service attached to the listener
+     * @param datagramPackets the received datagrams
+     * @param channel the channel which received the datagrams
+     * @param dispatchStage the stage which runs the service calls of the listener
+     */
+    public static void invokeRead(UdpService udpService, List<DatagramPacket> datagramPackets, Channel channel,
+                                  DispatchStage dispatchStage) {
+        if (dispatchStage.isOrdered()) {
+            datagramPackets.forEach(datagramPacket -> invokeRead(udpService, datagramPacket, channel, dispatchStage));
+            return;
+        }
+        List<Runnable> calls = new ArrayList<>(datagramPackets.size());
+        for (DatagramPacket datagramPacket : datagramPackets) {
+            Runnable call = createReadCall(udpService, datagramPacket, channel);
+            if (call != null) {
+                calls.add(call);
             }
         }
+        if (!calls.isEmpty()) {
+            dispatchStage.submit(() -> calls.forEach(Runnable::run), calls.size());
+        }
     }
 
-    private static Type[] getParameterTypes(Parameter[] parameters) {
-        Type[] parameterTypes = new Type[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
-            parameterTypes[i] = parameters[i].type;
+    /**
+     * Dispatches the datagrams collected for the onBatch method of the service as a single call.
+     *
+     * @param udpService the service attached to the listener
+     * @param datagrams the readonly datagram records of the batch
+     * @param channel the channel which received the datagrams
+     * @param dispatchStage the stage which runs the service calls of the listener
+     */
+    public static void invokeBatch(UdpService udpService, List<BMap<BString, Object>> datagrams, Channel channel,
+                                   DispatchStage dispatchStage) {
+        Object[] params = getOnBatchSignature(datagrams, udpService, channel);
+        dispatchStage.submit(createCall(udpService, null, channel, Constants.ON_BATCH, params), datagrams.size());
+    }
+
+    private static Runnable createReadCall(UdpService udpService, DatagramPacket datagramPacket, Channel channel) {
+        String readMethod = udpService.getReadMethod();
+        if (readMethod == null) {
+            return null;
+        }
+        if (Constants.ON_BYTES.equals(readMethod)) {
+            return Dispatcher.createOnBytesCall(udpService, datagramPacket, channel,
+                    udpService.getReadParameterTags());
         }
-        return parameterTypes;
+        return Dispatcher.createOnDatagramCall(udpService, datagramPacket, channel, udpService.getReadParameterTags());
     }
 
     private static void handleResult(UdpService udpService, DatagramPacket datagramP, Channel channel, Object object) {
         if (object instanceof BArray) {
             // call writeBytes if the service returns byte[]
             byte[] byteContent = ((BArray) object).getBytes();
-            UdpListener.send(udpService, new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
+            UdpListener.send(udpService, new DatagramPacket(BufferAllocator.copyOf(byteContent),
                     datagramP.sender()), channel);
         } else if (object instanceof BMap) {
             // call sendDatagram if the service returns Datagram
-            BMap<BString, Object> datagram = (BMap<BString, Object>) object;
-            String host = datagram.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue();
-            int port = datagram.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT)).intValue();
-            BArray data = datagram.getArrayValue(StringUtils.fromString(Constants.DATAGRAM_DATA));
-            byte[] byteContent = data.getBytes();
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
-                    new InetSocketAddress(host, port));
+            DatagramPacket datagramPacket = Utils.createDatagramPacket((BMap<BString, Object>) object);
             UdpListener.send(udpService, datagramPacket, channel);
         } else if (object instanceof BError) {
             ((BError) object).printStackTrace();
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@link EventLoopGroupConfig} represents the event loop group selected for a udp socket.
+ */
+public final class EventLoopGroupConfig {
+
+    // sockets which don't configure a group share the default group of their transport
+    public static final EventLoopGroupConfig DEFAULT = new EventLoopGroupConfig(null, 0, false);
+
+    private final String name;
+    private final int threadCount;
+    private final boolean dedicated;
+
+    private EventLoopGroupConfig(String name, int threadCount, boolean dedicated) {
+        this.name = name;
+        this.threadCount = threadCount;
+        this.dedicated = dedicated;
+    }
+
+    /**
+     * Reads the `eventLoopGroup` field of a client or listener configuration.
+     *
+     * @param config the ballerina client or listener configuration
+     * @return the event loop group configuration
+     * @throws IllegalArgumentException if the thread count is not positive
+     */
+    public static EventLoopGroupConfig fromConfig(BMap<BString, Object> config) {
+        BString groupKey = StringUtils.fromString(Constants.CONFIG_EVENT_LOOP_GROUP);
+        if (!config.containsKey(groupKey)) {
+            return DEFAULT;
+        }
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> groupConfig = (BMap<BString, Object>) config.getMapValue(groupKey);
+        BString name = groupConfig.getStringValue(StringUtils.fromString(Constants.CONFIG_GROUP_NAME));
+        Long threadCount = groupConfig.getIntValue(StringUtils.fromString(Constants.CONFIG_GROUP_THREAD_COUNT));
+        if (threadCount != null && threadCount < 1) {
+            throw new IllegalArgumentException("The threadCount of the event loop group should be greater than zero.");
+        }
+        return new EventLoopGroupConfig(name == null ? null : name.getValue(),
+                threadCount == null ? 0 : (int) threadCount.longValue(), name == null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the configured number of event loop threads.
+     *
+     * @param defaultThreadCount the thread count used if the configuration doesn't specify one
+     * @return the number of event loop threads of the group
+     */
+    public int getThreadCount(int defaultThreadCount) {
+        return threadCount > 0 ? threadCount : defaultThreadCount;
+    }
+
+    public boolean isDedicated() {
+        return dedicated;
+    }
+
+    public boolean isDefault() {
+        return this == DEFAULT;
+    }
+}
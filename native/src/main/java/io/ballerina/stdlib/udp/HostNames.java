@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HostNames} gives the host strings of the addresses of the received datagrams. The numeric address is
+ * used unless the reverse lookup is enabled, and even then a lookup never blocks the receive path: the numeric
+ * address is used until the name of the address is looked up in the background.
+ */
+public final class HostNames {
+
+    private HostNames() {}
+
+    private static final int MAX_CACHED_NAMES = 4096;
+    private static final long NAME_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int LOOKUP_THREADS = 2;
+    private static final int MAX_PENDING_LOOKUPS = 1024;
+
+    private static final ConcurrentHashMap<InetAddress, CachedName> names = new ConcurrentHashMap<>();
+    // the numeric host strings of the remote hosts, which would otherwise be formatted for every datagram
+    private static final ConcurrentHashMap<InetAddress, BString> numericNames = new ConcurrentHashMap<>();
+    private static final Set<InetAddress> pendingLookups = ConcurrentHashMap.newKeySet();
+    private static final ThreadPoolExecutor lookupExecutor = newLookupExecutor();
+
+    private static ThreadPoolExecutor newLookupExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(LOOKUP_THREADS, LOOKUP_THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_PENDING_LOOKUPS), new DefaultThreadFactory("udp-reverse-lookup", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Gets the host string of an address.
+     *
+     * @param address the address of a remote host or the local socket
+     * @param reverseLookup whether the name of the address is looked up
+     * @return the cached name of the address if it was looked up, else the numeric address
+     */
+    public static BString of(InetSocketAddress address, boolean reverseLookup) {
+        InetAddress inetAddress = address.getAddress();
+        if (inetAddress == null) {
+            return StringUtils.fromString(address.getHostString());
+        }
+        if (reverseLookup) {
+            CachedName cachedName = names.get(inetAddress);
+            if (cachedName == null || System.nanoTime() - cachedName.expiresAt >= 0) {
+                lookUp(inetAddress);
+            }
+            if (cachedName != null) {
+                return cachedName.bName;
+            }
+        }
+        BString name = numericNames.get(inetAddress);
+        if (name == null) {
+            name = StringUtils.fromString(inetAddress.getHostAddress());
+            if (numericNames.size() >= MAX_CACHED_NAMES) {
+                numericNames.clear();
+            }
+            numericNames.put(inetAddress, name);
+        }
+        return name;
+    }
+
+    private static void lookUp(InetAddress inetAddress) {
+        if (!pendingLookups.add(inetAddress)) {
+            return;
+        }
+        try {
+            lookupExecutor.execute(() -> {
+                try {
+                    // a fresh instance, as the address of the datagram may have cached its (numeric) name
+                    InetAddress lookupAddress = InetAddress.getByAddress(inetAddress.getAddress());
+                    cache(inetAddress, lookupAddress.getCanonicalHostName());
+                } catch (Exception e) {
+                    cache(inetAddress, inetAddress.getHostAddress());
+                } finally {
+                    pendingLookups.remove(inetAddress);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // too many lookups are pending, the numeric address is used until a later datagram retries
+            pendingLookups.remove(inetAddress);
+        }
+    }
+
+    private static void cache(InetAddress inetAddress, String name) {
+        long now = System.nanoTime();
+        if (names.size() >= MAX_CACHED_NAMES) {
+            names.values().removeIf(cachedName -> now - cachedName.expiresAt >= 0);
+            Iterator<InetAddress> addresses = names.keySet().iterator();
+            while (names.size() >= MAX_CACHED_NAMES && addresses.hasNext()) {
+                addresses.next();
+                addresses.remove();
+            }
+        }
+        names.put(inetAddress, new CachedName(name, now + NAME_TTL_NANOS));
+    }
+
+    private static final class CachedName {
+
+        private final BString bName;
+        private final long expiresAt;
+
+        private CachedName(String name, long expiresAt) {
+            this.bName = StringUtils.fromString(name);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.PromiseCombiner;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SendQueue} holds the datagrams sent while the channel is not writable, and writes them out once the
+ * channel becomes writable again. All the state of the queue is touched only on the event loop of the channel.
+ */
+public class SendQueue extends ChannelInboundHandlerAdapter {
+
+    private final long maxPendingBytes;
+    private final boolean waitWhenFull;
+    private final long waitTimeoutMillis;
+    // sends admitted to the queue, the head may be partially written
+    private final ArrayDeque<PendingSend> pendingSends = new ArrayDeque<>();
+    // sends which didn't fit in the queue, waiting for the pending bytes to drain
+    private final ArrayDeque<PendingSend> waitingSends = new ArrayDeque<>();
+    private long pendingBytes;
+    private Channel channel;
+
+    /**
+     * Creates a send queue.
+     *
+     * @param maxPendingBytes the bytes the queue holds before a send is failed or made to wait
+     * @param waitWhenFull whether a send waits for room in the queue instead of failing when the queue is full
+     * @param waitTimeoutMillis the time a send waits for room in the queue before it is failed
+     */
+    public SendQueue(long maxPendingBytes, boolean waitWhenFull, long waitTimeoutMillis) {
+        this.maxPendingBytes = maxPendingBytes;
+        this.waitWhenFull = waitWhenFull;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    public static SendQueue of(Channel channel) {
+        return channel.pipeline().get(SendQueue.class);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        channel = ctx.channel();
+    }
+
+    /**
+     * Sends the fragments of a datagram in order, without blocking the caller while the channel is not writable.
+     *
+     * @param fragments the datagrams to be written
+     * @return the future completed once all the fragments are written, or failed if any of them isn't
+     */
+    public ChannelFuture send(ArrayDeque<DatagramPacket> fragments) {
+        return sendAll(List.of(fragments)).get(0);
+    }
+
+    /**
+     * Sends the fragments of a batch of datagrams in order, flushing the channel once for the whole batch.
+     *
+     * @param batch the fragments of each datagram of the batch
+     * @return the futures of the datagrams of the batch, in the order of the batch
+     */
+    public List<ChannelFuture> sendAll(List<ArrayDeque<DatagramPacket>> batch) {
+        List<PendingSend> sends = new ArrayList<>(batch.size());
+        List<ChannelFuture> futures = new ArrayList<>(batch.size());
+        for (ArrayDeque<DatagramPacket> fragments : batch) {
+            PendingSend send = new PendingSend(fragments, channel.newPromise());
+            sends.add(send);
+            futures.add(send.promise);
+        }
+        if (channel.eventLoop().inEventLoop()) {
+            enqueue(sends);
+        } else {
+            try {
+                channel.eventLoop().execute(() -> enqueue(sends));
+            } catch (RejectedExecutionException e) {
+                for (PendingSend send : sends) {
+                    fail(send, new IllegalStateException("The socket is closed."));
+                }
+            }
+        }
+        return futures;
+    }
+
+    private void enqueue(List<PendingSend> sends) {
+        for (PendingSend send : sends) {
+            offer(send);
+        }
+        drain();
+    }
+
+    private void offer(PendingSend send) {
+        if (!channel.isActive()) {
+            fail(send, new IllegalStateException("The socket is closed."));
+        } else if (waitingSends.isEmpty() && hasRoomFor(send)) {
+            admit(send);
+        } else if (waitWhenFull) {
+            waitingSends.add(send);
+            send.timeout = channel.eventLoop().schedule(() -> {
+                if (waitingSends.remove(send)) {
+                    fail(send, new IllegalStateException("Timed out waiting for room in the send queue."));
+                }
+            }, waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } else {
+            fail(send, new IllegalStateException("The send queue is full with " + pendingBytes
+                    + " bytes pending to be written."));
+        }
+    }
+
+    // a send larger than the whole queue is still admitted once the queue is empty
+    private boolean hasRoomFor(PendingSend send) {
+        return pendingBytes == 0 || pendingBytes + send.bytes <= maxPendingBytes;
+    }
+
+    private void admit(PendingSend send) {
+        pendingSends.add(send);
+        pendingBytes += send.bytes;
+    }
+
+    private void drain() {
+        boolean written = false;
+        do {
+            while (channel.isWritable() && !pendingSends.isEmpty()) {
+                PendingSend send = pendingSends.peek();
+                DatagramPacket fragment = send.fragments.poll();
+                pendingBytes -= fragment.content().readableBytes();
+                send.combiner.add(channel.write(fragment));
+                written = true;
+                if (send.fragments.isEmpty()) {
+                    pendingSends.poll();
+                    send.combiner.finish(send.promise);
+                }
+            }
+        } while (admitWaitingSends());
+        // the datagrams written in a drain go out with a single flush
+        if (written) {
+            channel.flush();
+        }
+    }
+
+    private boolean admitWaitingSends() {
+        boolean admitted = false;
+        while (!waitingSends.isEmpty() && hasRoomFor(waitingSends.peek())) {
+            PendingSend send = waitingSends.poll();
+            send.timeout.cancel(false);
+            admit(send);
+            admitted = true;
+        }
+        return admitted;
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            drain();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        IllegalStateException cause = new IllegalStateException("The socket is closed.");
+        failAll(pendingSends, cause);
+        failAll(waitingSends, cause);
+        pendingBytes = 0;
+        super.channelInactive(ctx);
+    }
+
+    private static void failAll(ArrayDeque<PendingSend> sends, Throwable cause) {
+        PendingSend send;
+        while ((send = sends.poll()) != null) {
+            if (send.timeout != null) {
+                send.timeout.cancel(false);
+            }
+            fail(send, cause);
+        }
+    }
+
+    private static void fail(PendingSend send, Throwable cause) {
+        for (DatagramPacket fragment : send.fragments) {
+            ReferenceCountUtil.release(fragment);
+        }
+        send.fragments.clear();
+        send.promise.tryFailure(cause);
+    }
+
+    private static final class PendingSend {
+
+        private final ArrayDeque<DatagramPacket> fragments;
+        private final ChannelPromise promise;
+        private final PromiseCombiner combiner;
+        private final long bytes;
+        private ScheduledFuture<?> timeout;
+
+        private PendingSend(ArrayDeque<DatagramPacket> fragments, ChannelPromise promise) {
+            this.fragments = fragments;
+            this.promise = promise;
+            this.combiner = new PromiseCombiner(promise.channel().eventLoop());
+            long size = 0;
+            for (DatagramPacket fragment : fragments) {
+                size += fragment.content().readableBytes();
+            }
+            this.bytes = size;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.AttributeKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.IntConsumer;
+
+/**
+ * {@link SocketConfig} holds the transport level options of a udp client or listener socket.
+ */
+public final class SocketConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SocketConfig.class);
+
+    // the socket config is attached to the channels so that it is available to the callers of a listener
+    private static final AttributeKey<SocketConfig> SOCKET_CONFIG = AttributeKey.valueOf("udpSocketConfig");
+
+    private static final SocketConfig DEFAULT = new SocketConfig(UdpTransport.NIO);
+
+    private final UdpTransport transport;
+    private int gsoSegmentSize;
+    private boolean groEnabled;
+    private boolean adaptiveReadBuffer;
+    private int readBufferSize = Constants.DATAGRAM_RECEIVE_SIZE;
+    private int readBufferMaxSize = Constants.MAX_DATAGRAM_PAYLOAD_SIZE;
+    // the socket options which are left to the operating system defaults are null
+    private Integer receiveBufferSize;
+    private Integer sendBufferSize;
+    private Integer trafficClass;
+    private WriteBufferWaterMark writeBufferWaterMark;
+    // without a send queue configuration, a send waits for the channel to become writable for as long as it takes
+    private long maxPendingBytes = Long.MAX_VALUE;
+    private boolean waitWhenSendQueueFull;
+    private long sendQueueWaitTimeoutMillis;
+    // zero if every flush is written out right away
+    private int maxPendingFlushes;
+    private boolean reverseLookup;
+    // zero if a client reads a datagram only when it is received by ballerina
+    private int prefetchCapacity;
+
+    private SocketConfig(UdpTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Reads the socket options of a client or listener configuration.
+     *
+     * @param config the ballerina client or listener configuration
+     * @return the socket configuration
+     * @throws IllegalArgumentException if an option has an invalid value
+     */
+    public static SocketConfig fromConfig(BMap<BString, Object> config) {
+        UdpTransport transport = UdpTransport.fromConfig(
+                config.getStringValue(StringUtils.fromString(Constants.CONFIG_TRANSPORT)));
+        SocketConfig socketConfig = new SocketConfig(transport);
+        socketConfig.gsoSegmentSize = getGsoSegmentSize(config, transport);
+        socketConfig.groEnabled = isGroEnabled(config, transport);
+        BString readBufferKey = StringUtils.fromString(Constants.CONFIG_READ_BUFFER);
+        if (config.containsKey(readBufferKey)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> readBuffer = (BMap<BString, Object>) config.getMapValue(readBufferKey);
+            socketConfig.setReadBuffer(readBuffer);
+        }
+        socketConfig.receiveBufferSize = getBufferSize(config, Constants.CONFIG_RECEIVE_BUFFER_SIZE);
+        socketConfig.sendBufferSize = getBufferSize(config, Constants.CONFIG_SEND_BUFFER_SIZE);
+        socketConfig.trafficClass = getTrafficClass(config);
+        BString waterMarkKey = StringUtils.fromString(Constants.CONFIG_WRITE_BUFFER_WATER_MARK);
+        if (config.containsKey(waterMarkKey)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> waterMark = (BMap<BString, Object>) config.getMapValue(waterMarkKey);
+            socketConfig.writeBufferWaterMark = getWriteBufferWaterMark(waterMark);
+        }
+        Boolean reverseLookup = config.getBooleanValue(StringUtils.fromString(Constants.CONFIG_REVERSE_LOOKUP));
+        socketConfig.reverseLookup = reverseLookup != null && reverseLookup;
+        BString sendQueueKey = StringUtils.fromString(Constants.CONFIG_SEND_QUEUE);
+        if (config.containsKey(sendQueueKey)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> sendQueue = (BMap<BString, Object>) config.getMapValue(sendQueueKey);
+            socketConfig.setSendQueue(sendQueue);
+        }
+        BString prefetchKey = StringUtils.fromString(Constants.CONFIG_PREFETCH);
+        if (config.containsKey(prefetchKey)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> prefetch = (BMap<BString, Object>) config.getMapValue(prefetchKey);
+            socketConfig.prefetchCapacity = getPrefetchCapacity(prefetch);
+        }
+        BString writeBatchingKey = StringUtils.fromString(Constants.CONFIG_WRITE_BATCHING);
+        if (config.containsKey(writeBatchingKey)) {
+            @SuppressWarnings("unchecked")
+            BMap<BString, Object> writeBatching = (BMap<BString, Object>) config.getMapValue(writeBatchingKey);
+            socketConfig.maxPendingFlushes = getMaxPendingFlushes(writeBatching);
+        }
+        return socketConfig;
+    }
+
+    private static Integer getBufferSize(BMap<BString, Object> config, String field) {
+        Long size = config.getIntValue(StringUtils.fromString(field));
+        if (size == null) {
+            return null;
+        }
+        if (size < 1 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The " + field + " should be greater than zero.");
+        }
+        return (int) size.longValue();
+    }
+
+    private static Integer getTrafficClass(BMap<BString, Object> config) {
+        Long trafficClass = config.getIntValue(StringUtils.fromString(Constants.CONFIG_TRAFFIC_CLASS));
+        if (trafficClass == null) {
+            return null;
+        }
+        if (trafficClass < 0 || trafficClass > 255) {
+            throw new IllegalArgumentException("The trafficClass should be between 0 and 255.");
+        }
+        return (int) trafficClass.longValue();
+    }
+
+    private static WriteBufferWaterMark getWriteBufferWaterMark(BMap<BString, Object> waterMark) {
+        long low = waterMark.getIntValue(StringUtils.fromString(Constants.CONFIG_WATER_MARK_LOW));
+        long high = waterMark.getIntValue(StringUtils.fromString(Constants.CONFIG_WATER_MARK_HIGH));
+        if (low < 0 || high > Integer.MAX_VALUE || low > high) {
+            throw new IllegalArgumentException("The low water mark of the write buffer should be between zero "
+                    + "and the high water mark.");
+        }
+        return new WriteBufferWaterMark((int) low, (int) high);
+    }
+
+    private static int getMaxPendingFlushes(BMap<BString, Object> writeBatching) {
+        long maxPendingFlushes = writeBatching.getIntValue(
+                StringUtils.fromString(Constants.CONFIG_WRITE_BATCHING_MAX_PENDING_FLUSHES));
+        if (maxPendingFlushes < 1 || maxPendingFlushes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The maxPendingFlushes of the write batching should be greater "
+                    + "than zero.");
+        }
+        return (int) maxPendingFlushes;
+    }
+
+    private static int getPrefetchCapacity(BMap<BString, Object> prefetch) {
+        long capacity = prefetch.getIntValue(StringUtils.fromString(Constants.CONFIG_PREFETCH_CAPACITY));
+        if (capacity < 1 || capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The capacity of the prefetch should be greater than zero.");
+        }
+        return (int) capacity;
+    }
+
+    private void setSendQueue(BMap<BString, Object> sendQueue) {
+        maxPendingBytes = sendQueue.getIntValue(StringUtils.fromString(Constants.CONFIG_SEND_QUEUE_MAX_PENDING_BYTES));
+        if (maxPendingBytes < 1) {
+            throw new IllegalArgumentException("The maxPendingBytes of the send queue should be greater than zero.");
+        }
+        waitWhenSendQueueFull = Constants.SEND_QUEUE_FULL_WAIT.equals(
+                sendQueue.getStringValue(StringUtils.fromString(Constants.CONFIG_SEND_QUEUE_ON_FULL)).getValue());
+        double waitTimeout = ((BDecimal) sendQueue.get(
+                StringUtils.fromString(Constants.CONFIG_SEND_QUEUE_WAIT_TIMEOUT))).floatValue();
+        if (waitTimeout <= 0) {
+            throw new IllegalArgumentException("The waitTimeout of the send queue should be greater than zero.");
+        }
+        sendQueueWaitTimeoutMillis = (long) (waitTimeout * 1000);
+    }
+
+    private void setReadBuffer(BMap<BString, Object> readBuffer) {
+        adaptiveReadBuffer = Constants.READ_BUFFER_ADAPTIVE.equals(
+                readBuffer.getStringValue(StringUtils.fromString(Constants.CONFIG_READ_BUFFER_ALLOCATION)).getValue());
+        readBufferSize = getReadBufferSize(readBuffer, Constants.CONFIG_READ_BUFFER_SIZE);
+        readBufferMaxSize = getReadBufferSize(readBuffer, Constants.CONFIG_READ_BUFFER_MAX_SIZE);
+        if (adaptiveReadBuffer && readBufferMaxSize < readBufferSize) {
+            throw new IllegalArgumentException("The maxSize of the read buffer should not be less than its size.");
+        }
+    }
+
+    private static int getReadBufferSize(BMap<BString, Object> readBuffer, String field) {
+        long size = readBuffer.getIntValue(StringUtils.fromString(field));
+        if (size < 1 || size > Constants.MAX_DATAGRAM_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException("The " + field + " of the read buffer should be between 1 and "
+                    + Constants.MAX_DATAGRAM_PAYLOAD_SIZE + ".");
+        }
+        return (int) size;
+    }
+
+    private static int getGsoSegmentSize(BMap<BString, Object> config, UdpTransport transport) {
+        Long gsoSegmentSize = config.getIntValue(StringUtils.fromString(Constants.CONFIG_GSO_SEGMENT_SIZE));
+        if (gsoSegmentSize == null) {
+            return 0;
+        }
+        if (gsoSegmentSize < 1 || gsoSegmentSize > Constants.MAX_DATAGRAM_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException("The gsoSegmentSize should be between 1 and "
+                    + Constants.MAX_DATAGRAM_PAYLOAD_SIZE + ".");
+        }
+        if (transport.segmentationOffload() == null) {
+            log.warn("UDP segmentation offload is not supported by the {} transport on this host, "
+                    + "datagrams will be segmented before they are written.", transport);
+        }
+        return (int) gsoSegmentSize.longValue();
+    }
+
+    private static boolean isGroEnabled(BMap<BString, Object> config, UdpTransport transport) {
+        Boolean groEnabled = config.getBooleanValue(StringUtils.fromString(Constants.CONFIG_GRO_ENABLED));
+        if (groEnabled == null || !groEnabled) {
+            return false;
+        }
+        if (!transport.supportsReceiveOffload()) {
+            log.warn("UDP receive offload is not supported by the {} transport, it is not enabled.", transport);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Applies the socket options to the channels created by the bootstrap.
+     *
+     * @param bootstrap the bootstrap of a client or listener
+     * @param truncationListener called with the buffer size when a received datagram fills up the read buffer
+     */
+    public void configure(Bootstrap bootstrap, IntConsumer truncationListener) {
+        bootstrap.option(ChannelOption.ALLOCATOR, BufferAllocator.get());
+        if (groEnabled) {
+            bootstrap.option(EpollChannelOption.UDP_GRO, true);
+        }
+        if (receiveBufferSize != null) {
+            bootstrap.option(ChannelOption.SO_RCVBUF, receiveBufferSize);
+        }
+        if (sendBufferSize != null) {
+            bootstrap.option(ChannelOption.SO_SNDBUF, sendBufferSize);
+        }
+        if (trafficClass != null) {
+            bootstrap.option(ChannelOption.IP_TOS, trafficClass);
+        }
+        if (writeBufferWaterMark != null) {
+            bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark);
+        }
+        bootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, newReceiveAllocator(truncationListener));
+    }
+
+    /**
+     * Adds the handlers of the outbound datagrams to the pipeline of a new channel.
+     *
+     * @param pipeline the pipeline of the channel
+     */
+    public void initPipeline(ChannelPipeline pipeline) {
+        if (maxPendingFlushes > 0) {
+            // flushes are deferred to the end of the event loop tick, or until this many flushes are pending,
+            // so that the datagrams written in between leave with a single flush
+            pipeline.addLast(Constants.FLUSH_CONSOLIDATION_HANDLER,
+                    new FlushConsolidationHandler(maxPendingFlushes, true));
+        }
+        pipeline.addLast(Constants.SEND_QUEUE_HANDLER,
+                new SendQueue(maxPendingBytes, waitWhenSendQueueFull, sendQueueWaitTimeoutMillis));
+    }
+
+    /**
+     * Creates the allocator of the buffers the received datagrams are read into.
+     *
+     * @param truncationListener called with the buffer size when a received datagram fills up the read buffer
+     * @return the allocator of the read buffers
+     */
+    public DatagramRecvByteBufAllocator newReceiveAllocator(IntConsumer truncationListener) {
+        if (groEnabled) {
+            // the kernel hands over coalesced datagrams, the read buffer should fit the largest of them
+            return new DatagramRecvByteBufAllocator(false, Constants.MAX_COALESCED_DATAGRAM_SIZE,
+                    Constants.MAX_COALESCED_DATAGRAM_SIZE, truncationListener);
+        }
+        return new DatagramRecvByteBufAllocator(adaptiveReadBuffer, readBufferSize, readBufferMaxSize,
+                truncationListener);
+    }
+
+    /**
+     * Gets the socket configuration of the client or listener which owns the channel.
+     *
+     * @param channel the udp channel
+     * @return the socket configuration of the channel
+     */
+    public static SocketConfig of(Channel channel) {
+        SocketConfig socketConfig = channel.attr(SOCKET_CONFIG).get();
+        return socketConfig == null ? DEFAULT : socketConfig;
+    }
+
+    public void attach(Channel channel) {
+        channel.attr(SOCKET_CONFIG).set(this);
+    }
+
+    public UdpTransport getTransport() {
+        return transport;
+    }
+
+    public boolean isPrefetching() {
+        return prefetchCapacity > 0;
+    }
+
+    public int getPrefetchCapacity() {
+        return prefetchCapacity;
+    }
+
+    public boolean isGroEnabled() {
+        return groEnabled;
+    }
+
+    public boolean isReverseLookup() {
+        return reverseLookup;
+    }
+
+    public boolean isAdaptiveReadBuffer() {
+        return adaptiveReadBuffer;
+    }
+
+    /**
+     * Gets the size of the buffer a single datagram is read into with a fixed read buffer.
+     *
+     * @return the size of the read buffer of a datagram
+     */
+    public int getDatagramReceiveSize() {
+        return groEnabled ? Constants.MAX_COALESCED_DATAGRAM_SIZE : readBufferSize;
+    }
+
+    /**
+     * Gets the size of the datagrams the sent data is segmented into.
+     *
+     * @return the segment size, or zero if segmentation offload is not configured
+     */
+    public int getGsoSegmentSize() {
+        return gsoSegmentSize;
+    }
+}
@@ -24,16 +24,13 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.DatagramPacket;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.handler.timeout.IdleStateHandler;
-import io.netty.util.concurrent.ImmediateEventExecutor;
-import io.netty.util.concurrent.PromiseCombiner;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * {@link UdpClient} creates the udp client and handles all the network operations.
@@ -42,41 +39,61 @@ public class UdpClient {
 
     private Channel channel;
     private final Bootstrap clientBootstrap;
+    private final EventLoopGroup group;
+    private final boolean dedicatedGroup;
+    private final SocketConfig socketConfig;
+    private final UdpStatistics statistics = new UdpStatistics();
 
     // create connection oriented client
-    public UdpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                     EventLoopGroup group, CompletableFuture<Object> balFuture) {
+    public UdpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress, EventLoopGroup group,
+                     boolean dedicatedGroup, SocketConfig socketConfig, CompletableFuture<Object> balFuture) {
+        this.group = group;
+        this.dedicatedGroup = dedicatedGroup;
+        this.socketConfig = socketConfig;
         clientBootstrap = new Bootstrap();
         clientBootstrap.group(group)
-                .channel(NioDatagramChannel.class)
+                .channel(socketConfig.getTransport().datagramChannelClass())
                 .handler(new ChannelInitializer<>() {
                     @Override
                     protected void initChannel(Channel ch) throws Exception {
-                        ch.pipeline().addLast(Constants.CONNECTIONLESS_CLIENT_HANDLER, new UdpClientHandler());
+                        socketConfig.attach(ch);
+                        socketConfig.initPipeline(ch.pipeline());
+                        ch.pipeline().addLast(Constants.CONNECTIONLESS_CLIENT_HANDLER, new UdpClientHandler(
+                                socketConfig.getPrefetchCapacity(), UdpClient.this::onDroppedDatagram));
                     }
                 });
+        socketConfig.configure(clientBootstrap, bufferSize -> statistics.recordTruncatedDatagram());
         if (remoteAddress != null) {
             this.connect(remoteAddress, localAddress, balFuture);
         }
     }
 
     // create connection less client
-    public UdpClient(InetSocketAddress localAddress, EventLoopGroup group,
-                     CompletableFuture<Object> balFuture) {
+    public UdpClient(InetSocketAddress localAddress, EventLoopGroup group, boolean dedicatedGroup,
+                     SocketConfig socketConfig, CompletableFuture<Object> balFuture) {
+        this.group = group;
+        this.dedicatedGroup = dedicatedGroup;
+        this.socketConfig = socketConfig;
         clientBootstrap = new Bootstrap();
         clientBootstrap.group(group)
-                .channel(NioDatagramChannel.class)
+                .channel(socketConfig.getTransport().datagramChannelClass())
                 .handler(new ChannelInitializer<>() {
                     @Override
                     protected void initChannel(Channel ch) throws Exception {
-                        ch.pipeline().addLast(Constants.CONNECTIONLESS_CLIENT_HANDLER, new UdpClientHandler());
+                        socketConfig.attach(ch);
+                        socketConfig.initPipeline(ch.pipeline());
+                        ch.pipeline().addLast(Constants.CONNECTIONLESS_CLIENT_HANDLER, new UdpClientHandler(
+                                socketConfig.getPrefetchCapacity(), UdpClient.this::onDroppedDatagram));
                     }
-                }).bind(localAddress).addListener((ChannelFutureListener) future -> {
+                });
+        socketConfig.configure(clientBootstrap, bufferSize -> statistics.recordTruncatedDatagram());
+        clientBootstrap.bind(localAddress).addListener((ChannelFutureListener) future -> {
             if (future.isSuccess()) {
                 channel = future.channel();
-                channel.config().setAutoRead(false);
+                channel.config().setAutoRead(socketConfig.isPrefetching());
                 balFuture.complete(null);
             } else {
+                shutdownDedicatedGroup();
                 balFuture.complete(Utils.createUdpError("Error initializing UDP Client"));
             }
         });
@@ -90,61 +107,129 @@ public class UdpClient {
                     if (future.isSuccess()) {
                         channel = future.channel();
                         channel.pipeline().replace(Constants.CONNECTIONLESS_CLIENT_HANDLER,
-                                Constants.CONNECT_CLIENT_HANDLER, new UdpConnectClientHandler());
-                        channel.config().setAutoRead(false);
+                                Constants.CONNECT_CLIENT_HANDLER, new UdpConnectClientHandler(
+                                        socketConfig.getPrefetchCapacity(), this::onDroppedDatagram));
+                        // with prefetch, the channel keeps reading into the queue of the handler
+                        channel.config().setAutoRead(socketConfig.isPrefetching());
                         balFuture.complete(null);
                     } else {
+                        shutdownDedicatedGroup();
                         balFuture.complete(Utils.createUdpError("Can't connect to remote host: "
                                 + future.cause().getMessage()));
                     }
                 });
     }
 
-    public void sendData(DatagramPacket datagram, CompletableFuture<Object> balFuture) {
-        LinkedList<DatagramPacket> fragments = Utils.fragmentDatagram(datagram);
-        PromiseCombiner promiseCombiner = getPromiseCombiner(fragments);
+    // the dedicated group of a client which failed to bind or connect is never closed by the user
+    private void shutdownDedicatedGroup() {
+        if (dedicatedGroup) {
+            group.shutdownGracefully();
+        }
+    }
 
-        promiseCombiner.finish(channel.newPromise().addListener((ChannelFutureListener) future -> {
+    public void sendData(DatagramPacket datagram, CompletableFuture<Object> balFuture) {
+        SendQueue sendQueue = SendQueue.of(channel);
+        if (sendQueue == null) {
+            datagram.release();
+            balFuture.complete(Utils.createUdpError("Socket is closed"));
+            return;
+        }
+        ArrayDeque<DatagramPacket> fragments = Utils.fragmentDatagram(datagram, socketConfig);
+        sendQueue.send(fragments).addListener((ChannelFutureListener) future -> {
             if (future.isSuccess()) {
                 balFuture.complete(null);
             } else {
                 balFuture.complete(Utils
                         .createUdpError("Failed to send data: " + future.cause().getMessage()));
             }
-        }));
+        });
     }
 
-    private PromiseCombiner getPromiseCombiner(LinkedList<DatagramPacket> fragments) {
-        PromiseCombiner promiseCombiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
-        while (!fragments.isEmpty()) {
-            if (channel.isWritable()) {
-                promiseCombiner.add(channel.writeAndFlush(fragments.poll()));
+    public void sendBatch(List<DatagramPacket> datagrams, Throwable[] causes, CompletableFuture<Object> balFuture) {
+        Utils.sendBatch(channel, datagrams, causes, balFuture);
+    }
+
+    public void receiveData(double readTimeoutInSec, CompletableFuture<Object> balFuture) {
+        // the handler state is only touched on the event loop of the channel
+        if (!executeOnEventLoop(() -> {
+            UdpClientHandler handler = getHandler();
+            if (handler == null) {
+                balFuture.complete(Utils.createUdpError("Socket is closed"));
+                return;
             }
+            handler.receive(balFuture, (long) (readTimeoutInSec * 1_000_000_000));
+        })) {
+            balFuture.complete(Utils.createUdpError("Socket is closed"));
         }
-        return promiseCombiner;
     }
 
-    public void receiveData(double readTimeoutInSec, CompletableFuture<Object> balFuture) {
+    /**
+     * Receives the datagrams which have already been read, or else the datagrams which arrive before the timeout.
+     *
+     * @param maxCount the maximum number of datagrams received
+     * @param readTimeoutInSec the time waited for a datagram, no limit if it is negative
+     * @param balFuture the future completed with the list of the received datagrams, or with an error
+     */
+    public void receiveBatch(int maxCount, double readTimeoutInSec, CompletableFuture<Object> balFuture) {
+        if (!executeOnEventLoop(() -> {
+            UdpClientHandler handler = getHandler();
+            if (handler == null) {
+                balFuture.complete(List.of());
+                return;
+            }
+            handler.receiveBatch(balFuture, maxCount, (long) (readTimeoutInSec * 1_000_000_000));
+        })) {
+            balFuture.complete(List.of());
+        }
+    }
+
+    /**
+     * Starts or stops reading the datagrams ahead of the receives of a stream.
+     *
+     * @param capacity the number of datagrams read ahead before the reading is paused, zero to stop the stream
+     */
+    public void setStreamCapacity(int capacity) {
+        executeOnEventLoop(() -> {
+            UdpClientHandler handler = getHandler();
+            if (handler != null) {
+                handler.setStreamCapacity(capacity);
+            }
+        });
+    }
 
-        long readTimeoutInNano = (long) (readTimeoutInSec * 1_000_000_000);
-        channel.pipeline().addFirst(Constants.READ_TIMEOUT_HANDLER, new IdleStateHandler(readTimeoutInNano, 0, 0,
-                TimeUnit.NANOSECONDS));
+    // false if the event loop has been shut down along with the dedicated group of the closed client
+    private boolean executeOnEventLoop(Runnable task) {
+        try {
+            channel.eventLoop().execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
 
+    // null once the channel is closed and its pipeline is torn down
+    private UdpClientHandler getHandler() {
         if (channel.pipeline().get(Constants.CONNECTIONLESS_CLIENT_HANDLER) != null) {
-            UdpClientHandler handler = (UdpClientHandler) channel.pipeline().
-                    get(Constants.CONNECTIONLESS_CLIENT_HANDLER);
-            handler.setBalFuture(balFuture);
-        } else {
-            UdpConnectClientHandler handler = (UdpConnectClientHandler) channel.pipeline().
-                    get(Constants.CONNECT_CLIENT_HANDLER);
-            handler.setBalFuture(balFuture);
+            return (UdpClientHandler) channel.pipeline().get(Constants.CONNECTIONLESS_CLIENT_HANDLER);
         }
+        return (UdpConnectClientHandler) channel.pipeline().get(Constants.CONNECT_CLIENT_HANDLER);
+    }
+
+    private void onDroppedDatagram() {
+        statistics.recordDroppedDatagrams(1);
+    }
+
+    public UdpTransport getTransport() {
+        return socketConfig.getTransport();
+    }
 
-        channel.read();
+    public UdpStatistics getStatistics() {
+        return statistics;
     }
 
     public void close(CompletableFuture<Object> balFuture) {
         channel.close().addListener((ChannelFutureListener) future -> {
+            shutdownDedicatedGroup();
             if (future.isSuccess()) {
                 balFuture.complete(null);
             } else {
@@ -18,49 +18,291 @@
 
 package io.ballerina.stdlib.udp;
 
+import io.ballerina.runtime.api.values.BError;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.socket.DatagramPacket;
-import io.netty.handler.timeout.IdleStateEvent;
 
 import java.net.PortUnreachableException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link UdpClientHandler} ia a ChannelInboundHandler implementation for udp client.
  */
 public class UdpClientHandler extends SimpleChannelInboundHandler<DatagramPacket> {
 
-    protected CompletableFuture<Object> balFuture;
+    // the batch of a receive grows from this capacity up to its maximum count
+    private static final int INITIAL_BATCH_CAPACITY = 16;
+
+    // the receives waiting for a datagram, in the order they were made
+    private final Queue<PendingRead> pendingReads = new ArrayDeque<>();
+    // a coalesced (GRO) read yields many datagrams, the ones beyond the pending receive wait for the next one.
+    // With prefetch or a stream, the channel keeps reading and the datagrams wait here for the receives
+    private final Queue<Object> readResults = new ArrayDeque<>();
+    private final int prefetchCapacity;
+    private final Runnable dropListener;
+    // zero while the datagrams are not received as a stream
+    private int streamCapacity;
+    private ChannelHandlerContext ctx;
+    private boolean reverseLookup;
+
+    /**
+     * Creates a client handler.
+     *
+     * @param prefetchCapacity the number of datagrams read ahead of the receives, zero without prefetch
+     * @param dropListener called when a datagram is dropped as the prefetched datagrams are at the capacity
+     */
+    public UdpClientHandler(int prefetchCapacity, Runnable dropListener) {
+        this.prefetchCapacity = prefetchCapacity;
+        this.dropListener = dropListener;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+        reverseLookup = SocketConfig.of(ctx.channel()).isReverseLookup();
+    }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx,
                                 DatagramPacket datagramPacket) throws Exception {
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
-        balFuture.complete(Utils.createReadonlyDatagramWithRecipientAddress(datagramPacket));
+        PendingRead pendingRead = pendingReads.peek();
+        if (pendingRead == null) {
+            queueReadResult(createReadResult(datagramPacket));
+            return;
+        }
+        if (pendingRead.add(createReadResult(datagramPacket))) {
+            pendingReads.poll();
+            pendingRead.complete();
+        }
     }
 
     @Override
-    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
-        if (evt instanceof IdleStateEvent) {
-            ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
-            balFuture.complete(Utils.createUdpError("Read timed out"));
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        // a batch receive takes the datagrams of a single read of the socket
+        PendingRead pendingRead = pendingReads.peek();
+        if (pendingRead != null && pendingRead.hasReadResults()) {
+            pendingReads.poll();
+            pendingRead.complete();
+        }
+        readForPendingReads();
+        ctx.fireChannelReadComplete();
+    }
+
+    // the reads requested by the receives are merged into a single read, which ends with the read loop
+    private void readForPendingReads() {
+        if (!pendingReads.isEmpty() && !ctx.channel().config().isAutoRead()) {
+            ctx.read();
+        }
+    }
+
+    private void queueReadResult(Object readResult) {
+        if (streamCapacity > 0) {
+            // the datagram has already been read, so the reading is paused rather than dropping it
+            readResults.add(readResult);
+            if (readResults.size() >= streamCapacity) {
+                ctx.channel().config().setAutoRead(false);
+            }
+            return;
+        }
+        if (prefetchCapacity > 0 && readResults.size() >= prefetchCapacity) {
+            // the queued datagrams are kept and the received one is dropped, as the receives get them in order
+            dropListener.run();
+            return;
         }
+        readResults.add(readResult);
+    }
+
+    protected Object createReadResult(DatagramPacket datagramPacket) {
+        return Utils.createReadonlyDatagramWithRecipientAddress(datagramPacket, reverseLookup);
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
-            String errorMsg = cause.getMessage();
-            if (cause instanceof PortUnreachableException) {
-                errorMsg = "Port unreachable (" + ctx.channel().remoteAddress() + ")";
+        String errorMsg = cause.getMessage();
+        if (cause instanceof PortUnreachableException) {
+            errorMsg = "Port unreachable (" + ctx.channel().remoteAddress() + ")";
+        }
+        PendingRead pendingRead = pendingReads.peek();
+        if (pendingRead != null && pendingRead.hasReadResults()) {
+            // the datagrams read before the error are not lost with it
+            pendingReads.poll();
+            pendingRead.complete();
+            pendingRead = pendingReads.peek();
+        }
+        if (pendingRead == null) {
+            // with prefetch or a stream, the error is given to the receive which would have read it
+            if (prefetchCapacity > 0 || streamCapacity > 0) {
+                queueReadResult(Utils.createUdpError(errorMsg));
             }
-            balFuture.complete(Utils.createUdpError(errorMsg));
+            return;
+        }
+        pendingReads.poll();
+        pendingRead.complete(Utils.createUdpError(errorMsg));
+        readForPendingReads();
     }
 
-    public void setBalFuture(CompletableFuture<Object> balFuture) {
-        this.balFuture = balFuture;
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        PendingRead pendingRead;
+        while ((pendingRead = pendingReads.poll()) != null) {
+            pendingRead.completeOnClose();
+        }
+        ctx.fireChannelInactive();
     }
 
-}
+    /**
+     * Receives a datagram, completing the receive right away if a datagram has already been read. Else the
+     * receive waits for the next datagram until its deadline, which is scheduled on the event loop of the
+     * channel, so that the pipeline is left as it is. This should be called on the event loop of the channel.
+     *
+     * @param balFuture the future of the receive
+     * @param readTimeoutInNanos the time the receive waits for a datagram, no deadline if it is not positive
+     */
+    public void receive(CompletableFuture<Object> balFuture, long readTimeoutInNanos) {
+        Object readResult = readResults.poll();
+        if (readResult != null) {
+            balFuture.complete(readResult);
+            resumeStream();
+            return;
+        }
+        waitForReadResults(new PendingRead(balFuture, 0), readTimeoutInNanos);
+    }
+
+    /**
+     * Receives the datagrams which have already been read, or else the datagrams of the next read of the
+     * socket until the deadline of the receive. The receive is completed with the list of the datagrams,
+     * which is empty if none is read before the deadline, or with the error of the socket if it fails before
+     * a datagram is read. This should be called on the event loop of the channel.
+     *
+     * @param balFuture the future of the receive
+     * @param maxCount the maximum number of datagrams received
+     * @param readTimeoutInNanos the time the receive waits for a datagram, no deadline if it is negative. A
+     *                           receive without a deadline is a receive of a stream, which is completed with an
+     *                           empty list when the stream is closed
+     */
+    public void receiveBatch(CompletableFuture<Object> balFuture, int maxCount, long readTimeoutInNanos) {
+        if (readResults.peek() instanceof BError) {
+            balFuture.complete(readResults.poll());
+            resumeStream();
+            return;
+        }
+        PendingRead pendingRead = new PendingRead(balFuture, maxCount);
+        pendingRead.streamRead = readTimeoutInNanos < 0;
+        while (!readResults.isEmpty() && !(readResults.peek() instanceof BError) && !pendingRead.isFull()) {
+            pendingRead.add(readResults.poll());
+        }
+        // a stream closed before its receive got here has nothing more to wait for
+        if (pendingRead.hasReadResults() || readTimeoutInNanos == 0
+                || (pendingRead.streamRead && streamCapacity == 0)) {
+            pendingRead.complete();
+            resumeStream();
+            return;
+        }
+        waitForReadResults(pendingRead, readTimeoutInNanos < 0 ? 0 : readTimeoutInNanos);
+    }
+
+    private void waitForReadResults(PendingRead pendingRead, long readTimeoutInNanos) {
+        if (!ctx.channel().isActive()) {
+            pendingRead.completeOnClose();
+            return;
+        }
+        if (readTimeoutInNanos > 0) {
+            pendingRead.deadline = ctx.executor().schedule(() -> onReadTimeout(pendingRead), readTimeoutInNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+        pendingReads.add(pendingRead);
+        ctx.read();
+    }
+
+    private void onReadTimeout(PendingRead pendingRead) {
+        // a receive completed by a datagram before its deadline is no longer pending
+        if (pendingReads.remove(pendingRead)) {
+            pendingRead.completeOnTimeout();
+        }
+    }
+
+    /**
+     * Keeps the channel reading ahead of the receives of a stream, and pauses the reading while the given
+     * number of datagrams wait to be received. This should be called on the event loop of the channel.
+     *
+     * @param capacity the number of datagrams read ahead of the receives, zero to stop the stream
+     */
+    public void setStreamCapacity(int capacity) {
+        streamCapacity = capacity;
+        ctx.channel().config().setAutoRead(capacity > 0 || prefetchCapacity > 0);
+        if (capacity == 0) {
+            // the receive of the closed stream ends it, rather than waiting for the next datagram
+            pendingReads.removeIf(pendingRead -> {
+                if (pendingRead.streamRead) {
+                    pendingRead.complete();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    // the reading paused by a stream resumes once its receives have drained half of the queue
+    private void resumeStream() {
+        if (streamCapacity > 0 && !ctx.channel().config().isAutoRead()
+                && readResults.size() <= streamCapacity / 2) {
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    private static final class PendingRead {
+
+        private final CompletableFuture<Object> balFuture;
+        // zero for a receive of a single datagram
+        private final int maxCount;
+        private final List<Object> readResults;
+        private ScheduledFuture<?> deadline;
+        private boolean streamRead;
+
+        private PendingRead(CompletableFuture<Object> balFuture, int maxCount) {
+            this.balFuture = balFuture;
+            this.maxCount = maxCount;
+            this.readResults = new ArrayList<>(Math.min(maxCount, INITIAL_BATCH_CAPACITY));
+        }
 
+        // returns true if the receive has got all the datagrams it takes
+        private boolean add(Object readResult) {
+            readResults.add(readResult);
+            return isFull();
+        }
+
+        private boolean isFull() {
+            return readResults.size() >= Math.max(maxCount, 1);
+        }
+
+        private boolean hasReadResults() {
+            return !readResults.isEmpty();
+        }
+
+        private void complete() {
+            complete(maxCount > 0 ? readResults : readResults.get(0));
+        }
+
+        private void completeOnTimeout() {
+            complete(maxCount > 0 ? readResults : Utils.createUdpError("Read timed out"));
+        }
+
+        private void completeOnClose() {
+            complete(maxCount > 0 ? readResults : Utils.createUdpError("Socket is closed"));
+        }
+
+        private void complete(Object readResult) {
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+            balFuture.complete(readResult);
+        }
+    }
+}
@@ -18,7 +18,6 @@
 
 package io.ballerina.stdlib.udp;
 
-import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.DatagramPacket;
 
 /**
@@ -26,10 +25,12 @@ import io.netty.channel.socket.DatagramPacket;
  */
 public class UdpConnectClientHandler extends UdpClientHandler {
 
+    public UdpConnectClientHandler(int prefetchCapacity, Runnable dropListener) {
+        super(prefetchCapacity, dropListener);
+    }
+
     @Override
-    protected void channelRead0(ChannelHandlerContext ctx,
-                                DatagramPacket datagramPacket) throws Exception {
-        balFuture.complete(Utils.getReadonlyBytesFromDatagram(datagramPacket));
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
+    protected Object createReadResult(DatagramPacket datagramPacket) {
+        return Utils.getReadonlyBytesFromDatagram(datagramPacket);
     }
 }
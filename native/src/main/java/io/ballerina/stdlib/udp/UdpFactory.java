@@ -19,21 +19,31 @@
 package io.ballerina.stdlib.udp;
 
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
 
 import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * {@link UdpFactory} creates {@link UdpClient} and UdpListener.
  */
 public class UdpFactory {
 
+    private static final String THREAD_NAME_PREFIX = "udp-";
+    private static final String CLIENT_GROUP = "client";
+    private static final String LISTENER_GROUP = "listener";
+
     private static volatile UdpFactory udpFactory = new UdpFactory();;
-    private EventLoopGroup group;
+    private final EventLoopGroup group;
+    private final Map<UdpTransport, EventLoopGroup> nativeGroups = new ConcurrentHashMap<>();
+    private final Map<String, EventLoopGroup> namedGroups = new ConcurrentHashMap<>();
 
     private UdpFactory() {
-        group = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors() * 2);
+        group = UdpTransport.NIO.newEventLoopGroup(getDefaultThreadCount(), newThreadFactory(UdpTransport.NIO.name()));
     }
 
     public static UdpFactory getInstance() {
@@ -41,16 +51,60 @@ public class UdpFactory {
     }
 
     public UdpClient createUdpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                                     CompletableFuture<Object> balFuture) {
-        return new UdpClient(localAddress, remoteAddress, getInstance().group, balFuture);
+                                     CompletableFuture<Object> balFuture, SocketConfig socketConfig,
+                                     EventLoopGroupConfig groupConfig) {
+        EventLoopGroup clientGroup = getInstance().getEventLoopGroup(socketConfig.getTransport(), groupConfig,
+                CLIENT_GROUP, 1);
+        return new UdpClient(localAddress, remoteAddress, clientGroup, groupConfig.isDedicated(), socketConfig,
+                balFuture);
     }
 
-    public UdpClient createUdpClient(InetSocketAddress localAddress, CompletableFuture<Object> balFuture) {
-        return new UdpClient(localAddress, getInstance().group, balFuture);
+    public UdpClient createUdpClient(InetSocketAddress localAddress, CompletableFuture<Object> balFuture,
+                                     SocketConfig socketConfig, EventLoopGroupConfig groupConfig) {
+        EventLoopGroup clientGroup = getInstance().getEventLoopGroup(socketConfig.getTransport(), groupConfig,
+                CLIENT_GROUP, 1);
+        return new UdpClient(localAddress, clientGroup, groupConfig.isDedicated(), socketConfig, balFuture);
     }
 
     public UdpListener createUdpListener(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                                         CompletableFuture<Object> balFuture, UdpService udpService) {
-        return new UdpListener(localAddress, remoteAddress, getInstance().group, balFuture, udpService);
+                                         CompletableFuture<Object> balFuture, UdpService udpService,
+                                         SocketConfig socketConfig, int channelCount, int receiveBatchSize,
+                                         DispatchConfig dispatchConfig, EventLoopGroupConfig groupConfig) {
+        EventLoopGroup listenerGroup = getInstance().getEventLoopGroup(socketConfig.getTransport(), groupConfig,
+                LISTENER_GROUP, channelCount);
+        return new UdpListener(localAddress, remoteAddress, listenerGroup, groupConfig.isDedicated(), socketConfig,
+                channelCount, receiveBatchSize, dispatchConfig, balFuture, udpService);
+    }
+
+    private EventLoopGroup getEventLoopGroup(UdpTransport transport, EventLoopGroupConfig groupConfig,
+                                             String dedicatedGroupName, int channelCount) {
+        if (groupConfig.isDefault()) {
+            return getEventLoopGroup(transport);
+        } else if (groupConfig.isDedicated()) {
+            // a dedicated group only has to serve the channels of its own socket
+            return transport.newEventLoopGroup(groupConfig.getThreadCount(channelCount),
+                    newThreadFactory(dedicatedGroupName));
+        }
+        // the socket which creates a named group first decides its thread count
+        return namedGroups.computeIfAbsent(transport.name() + ":" + groupConfig.getName(),
+                key -> transport.newEventLoopGroup(groupConfig.getThreadCount(getDefaultThreadCount()),
+                        newThreadFactory(groupConfig.getName())));
+    }
+
+    // native transport groups are created on first use so that hosts which never ask for them don't pay for them
+    private EventLoopGroup getEventLoopGroup(UdpTransport transport) {
+        if (transport == UdpTransport.NIO) {
+            return group;
+        }
+        return nativeGroups.computeIfAbsent(transport,
+                t -> t.newEventLoopGroup(getDefaultThreadCount(), newThreadFactory(t.name())));
+    }
+
+    private static ThreadFactory newThreadFactory(String groupName) {
+        return new DefaultThreadFactory(THREAD_NAME_PREFIX + groupName.toLowerCase(Locale.ENGLISH));
+    }
+
+    private static int getDefaultThreadCount() {
+        return Runtime.getRuntime().availableProcessors() * 2;
     }
 }
@@ -22,46 +22,134 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.DatagramPacket;
-import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
 import io.netty.util.concurrent.PromiseCombiner;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@link UdpListener} creates the udp client and handles all the network operations.
  */
 public class UdpListener {
 
-    private Channel channel;
+    private final List<Channel> channels = new CopyOnWriteArrayList<>();
     private final Bootstrap listenerBootstrap;
+    private final EventLoopGroup group;
+    private final boolean dedicatedGroup;
+    private final UdpService udpService;
+    private final UdpStatistics statistics = new UdpStatistics();
+    private final DispatchStage dispatchStage;
+    // size of the recvmmsg slot a datagram is read into, zero if the datagrams are read one at a time
+    private int datagramSlotSize;
 
-    public UdpListener(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                       EventLoopGroup group, CompletableFuture<Object> balFuture, UdpService udpService) {
+    public UdpListener(InetSocketAddress localAddress, InetSocketAddress remoteAddress, EventLoopGroup group,
+                       boolean dedicatedGroup, SocketConfig socketConfig, int channelCount, int receiveBatchSize,
+                       DispatchConfig dispatchConfig, CompletableFuture<Object> balFuture, UdpService udpService) {
+        this.group = group;
+        this.dedicatedGroup = dedicatedGroup;
+        this.udpService = udpService;
+        this.dispatchStage = new DispatchStage(dispatchConfig, statistics, channels);
+        UdpTransport transport = socketConfig.getTransport();
         listenerBootstrap = new Bootstrap();
         listenerBootstrap.group(group)
-                .channel(NioDatagramChannel.class)
+                .channel(transport.datagramChannelClass())
                 .handler(new ChannelInitializer<>() {
                     @Override
                     protected void initChannel(Channel ch) {
-                        ch.pipeline().addLast(Constants.LISTENER_HANDLER, new UdpListenerHandler(udpService));
+                        socketConfig.attach(ch);
+                        socketConfig.initPipeline(ch.pipeline());
+                        ch.pipeline().addLast(Constants.LISTENER_HANDLER, new UdpListenerHandler(udpService,
+                                receiveBatchSize, datagramSlotSize, UdpListener.this::onTruncatedDatagram,
+                                dispatchStage));
                     }
                 });
+        socketConfig.configure(listenerBootstrap, this::onTruncatedDatagram);
+        if (receiveBatchSize > 1) {
+            configureBatchedReceive(socketConfig, receiveBatchSize);
+        }
         if (remoteAddress != null) {
             connect(remoteAddress, localAddress, balFuture);
+        } else if (transport.supportsReusePort() && channelCount > 1) {
+            // every bind picks the next event loop of the group, so the kernel spreads the datagrams
+            // received on the port across the event loops
+            listenerBootstrap.option(UnixChannelOption.SO_REUSEPORT, true);
+            bind(localAddress, channelCount, balFuture);
+        } else {
+            bind(localAddress, 1, balFuture);
+        }
+    }
+
+    private void configureBatchedReceive(SocketConfig socketConfig, int receiveBatchSize) {
+        // a read of a coalesced datagram already carries many datagrams, so recvmmsg isn't used along with GRO,
+        // and recvmmsg needs slots of a fixed size
+        if (socketConfig.getTransport() == UdpTransport.EPOLL && !socketConfig.isGroEnabled()
+                && !socketConfig.isAdaptiveReadBuffer()) {
+            // the read buffer holds a slot per datagram so that a single recvmmsg call fills the whole batch
+            datagramSlotSize = socketConfig.getDatagramReceiveSize();
+            listenerBootstrap.option(EpollChannelOption.MAX_DATAGRAM_PAYLOAD_SIZE, datagramSlotSize)
+                    .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(
+                            receiveBatchSize * datagramSlotSize).maxMessagesPerRead(receiveBatchSize));
         } else {
+            // otherwise a call reads a single, possibly coalesced, datagram, let a read loop gather a whole batch
+            listenerBootstrap.option(ChannelOption.RCVBUF_ALLOCATOR,
+                    socketConfig.newReceiveAllocator(this::onTruncatedDatagram).maxMessagesPerRead(receiveBatchSize));
+        }
+    }
+
+    private void onTruncatedDatagram(int bufferSize) {
+        statistics.recordTruncatedDatagram();
+        Dispatcher.invokeOnError(udpService, "Received a datagram which filled the whole read buffer of "
+                + bufferSize + " bytes, it may have been truncated.");
+    }
+
+    public UdpStatistics getStatistics() {
+        return statistics;
+    }
+
+    public DispatchStage getDispatchStage() {
+        return dispatchStage;
+    }
+
+    private void bind(InetSocketAddress localAddress, int channelCount, CompletableFuture<Object> balFuture) {
+        AtomicInteger pendingBinds = new AtomicInteger(channelCount);
+        AtomicReference<Throwable> bindFailure = new AtomicReference<>();
+        for (int i = 0; i < channelCount; i++) {
             listenerBootstrap.bind(localAddress).addListener((ChannelFutureListener) future -> {
                 if (future.isSuccess()) {
-                    channel = future.channel();
+                    channels.add(future.channel());
+                } else {
+                    bindFailure.compareAndSet(null, future.cause());
+                }
+                if (pendingBinds.decrementAndGet() > 0) {
+                    return;
+                }
+                if (bindFailure.get() == null) {
                     balFuture.complete(null);
                 } else {
+                    // don't leave the sockets which did bind holding the port
+                    for (Channel channel : channels) {
+                        channel.close();
+                    }
+                    channels.clear();
+                    if (dedicatedGroup) {
+                        group.shutdownGracefully();
+                    }
                     balFuture.complete(Utils.createUdpError("Unable to initialize UDP Listener: " +
-                            future.cause().getMessage()));
+                            bindFailure.get().getMessage()));
                 }
             });
         }
@@ -69,62 +157,83 @@ public class UdpListener {
 
     // invoke when caller call writeBytes() or sendDatagram()
     public static void send(DatagramPacket datagram, Channel channel, CompletableFuture<Object> balFuture) {
-        LinkedList<DatagramPacket> fragments = Utils.fragmentDatagram(datagram);
-        PromiseCombiner promiseCombiner = getPromiseCombiner(fragments, channel);
-
-        promiseCombiner.finish(channel.newPromise().addListener((ChannelFutureListener) future -> {
+        SendQueue sendQueue = SendQueue.of(channel);
+        if (sendQueue == null) {
+            datagram.release();
+            balFuture.complete(Utils.createUdpError("Socket is closed"));
+            return;
+        }
+        ArrayDeque<DatagramPacket> fragments = Utils.fragmentDatagram(datagram, SocketConfig.of(channel));
+        sendQueue.send(fragments).addListener((ChannelFutureListener) future -> {
             if (future.isSuccess()) {
                 balFuture.complete(null);
             } else {
                 balFuture.complete(Utils
                         .createUdpError("Failed to send data: " + future.cause().getMessage()));
             }
-        }));
+        });
+    }
+
+    // invoke when caller call sendDatagrams()
+    public static void sendBatch(List<DatagramPacket> datagrams, Throwable[] causes, Channel channel,
+                                 CompletableFuture<Object> balFuture) {
+        Utils.sendBatch(channel, datagrams, causes, balFuture);
     }
 
     // invoke when service return byte[] or Datagram
     public static void send(UdpService udpService, DatagramPacket datagram, Channel channel) {
-        LinkedList<DatagramPacket> fragments = Utils.fragmentDatagram(datagram);
-        PromiseCombiner promiseCombiner = getPromiseCombiner(fragments, channel);
-
-        promiseCombiner.finish(channel.newPromise().addListener((ChannelFutureListener) future -> {
+        SendQueue sendQueue = SendQueue.of(channel);
+        if (sendQueue == null) {
+            datagram.release();
+            Dispatcher.invokeOnError(udpService, "Failed to send data. Socket is closed");
+            return;
+        }
+        ArrayDeque<DatagramPacket> fragments = Utils.fragmentDatagram(datagram, SocketConfig.of(channel));
+        sendQueue.send(fragments).addListener((ChannelFutureListener) future -> {
             if (!future.isSuccess()) {
                 Dispatcher.invokeOnError(udpService, "Failed to send data.");
             }
-        }));
-    }
-
-    private static PromiseCombiner getPromiseCombiner(LinkedList<DatagramPacket> fragments, Channel channel) {
-        PromiseCombiner promiseCombiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
-        while (!fragments.isEmpty()) {
-            if (channel.isWritable()) {
-                promiseCombiner.add(channel.writeAndFlush(fragments.poll()));
-            }
-        }
-        return promiseCombiner;
+        });
     }
 
     // only invoke if the listener is a connected listener
     private void connect(SocketAddress remoteAddress, SocketAddress localAddress, CompletableFuture<Object> balFuture) {
         listenerBootstrap.connect(remoteAddress, localAddress).addListener((ChannelFutureListener) future -> {
-            channel = future.channel();
             if (future.isSuccess()) {
+                channels.add(future.channel());
                 balFuture.complete(null);
             } else {
+                // don't leave the socket holding the port, nor the dedicated group running
+                future.channel().close();
+                if (dedicatedGroup) {
+                    group.shutdownGracefully();
+                }
                 balFuture.complete(Utils.createUdpError("Can't connect to remote host."));
             }
         });
     }
 
     public void close(CompletableFuture<Object> balFuture) throws InterruptedException {
-        if (channel != null) {
-            channel.close().sync().addListener((ChannelFutureListener) future -> {
-                if (future.isSuccess()) {
-                    balFuture.complete(null);
-                } else {
-                    balFuture.complete(Utils.createUdpError("Failed to gracefully shutdown the Listener."));
-                }
-            });
+        Promise<Void> closePromise = ImmediateEventExecutor.INSTANCE.newPromise();
+        closePromise.addListener(future -> {
+            if (future.isSuccess()) {
+                balFuture.complete(null);
+            } else {
+                balFuture.complete(Utils.createUdpError("Failed to gracefully shutdown the Listener."));
+            }
+        });
+        if (dedicatedGroup) {
+            // the dedicated group is shut down once the channels registered to it have been closed
+            closePromise.addListener(future -> group.shutdownGracefully());
+        }
+        if (channels.isEmpty()) {
+            closePromise.setSuccess(null);
+            return;
+        }
+        PromiseCombiner promiseCombiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
+        for (Channel channel : channels) {
+            promiseCombiner.add(channel.close().sync());
         }
+        promiseCombiner.finish(closePromise);
     }
 }
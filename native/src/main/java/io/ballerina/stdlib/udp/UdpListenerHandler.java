@@ -18,29 +18,148 @@
 
 package io.ballerina.stdlib.udp;
 
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.socket.DatagramPacket;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
 /**
  * {@link UdpListenerHandler} is a ChannelInboundHandler implementation for udp listener.
  */
 public class UdpListenerHandler extends SimpleChannelInboundHandler<DatagramPacket> {
 
     private UdpService udpService;
+    private final int receiveBatchSize;
+    private final List<DatagramPacket> batch;
+    private final int datagramSlotSize;
+    private final IntConsumer truncationListener;
+    private final DispatchStage dispatchStage;
+    // the datagrams collected for the onBatch method, null if the service doesn't have it
+    private List<BMap<BString, Object>> pendingDatagrams;
+    private ScheduledFuture<?> lingerTimer;
 
-    public UdpListenerHandler(UdpService udpService) {
+    /**
+     * Creates a listener handler.
+     *
+     * @param udpService the service attached to the listener
+     * @param receiveBatchSize the maximum number of datagrams dispatched together
+     * @param datagramSlotSize the size of the recvmmsg slot a datagram is read into, zero if recvmmsg isn't used
+     * @param truncationListener called with the slot size when a received datagram fills up its slot
+     * @param dispatchStage the stage which runs the service calls of the listener
+     */
+    public UdpListenerHandler(UdpService udpService, int receiveBatchSize, int datagramSlotSize,
+                              IntConsumer truncationListener, DispatchStage dispatchStage) {
+        // batched datagrams are released by the handler once the batch has been dispatched, while the datagrams
+        // collected for onBatch are copied into records as they are received
+        super(receiveBatchSize <= 1 || isBatchService(udpService));
         this.udpService = udpService;
+        this.receiveBatchSize = receiveBatchSize;
+        this.batch = receiveBatchSize > 1 && !isBatchService(udpService) ? new ArrayList<>(receiveBatchSize) : null;
+        this.pendingDatagrams = isBatchService(udpService)
+                ? new ArrayList<>(dispatchStage.getConfig().getBatchMaxCount()) : null;
+        this.datagramSlotSize = datagramSlotSize;
+        this.truncationListener = truncationListener;
+        this.dispatchStage = dispatchStage;
+    }
+
+    private static boolean isBatchService(UdpService udpService) {
+        return udpService != null && udpService.isBatchService();
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx,
                                 DatagramPacket datagramPacket) throws Exception {
-        Dispatcher.invokeRead(udpService, datagramPacket, ctx.channel());
+        // the allocator can't tell the datagrams of a recvmmsg read apart, so the slots are checked here
+        if (datagramSlotSize > 0 && datagramPacket.content().readableBytes() >= datagramSlotSize) {
+            truncationListener.accept(datagramSlotSize);
+        }
+        if (pendingDatagrams != null) {
+            collect(ctx, datagramPacket);
+            return;
+        }
+        if (batch == null) {
+            Dispatcher.invokeRead(udpService, datagramPacket, ctx.channel(), dispatchStage);
+            return;
+        }
+        batch.add(datagramPacket);
+        if (batch.size() >= receiveBatchSize) {
+            dispatchBatch(ctx);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        // a read loop of the channel has ended, dispatch whatever it has received so far
+        if (batch != null && !batch.isEmpty()) {
+            dispatchBatch(ctx);
+        }
+        if (pendingDatagrams != null && dispatchStage.getConfig().getBatchLingerNanos() == 0) {
+            deliverBatch(ctx);
+        }
+        super.channelReadComplete(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (batch != null) {
+            releaseBatch();
+        }
+        if (pendingDatagrams != null) {
+            deliverBatch(ctx);
+        }
+        super.channelInactive(ctx);
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         Dispatcher.invokeOnError(udpService, cause.getMessage());
     }
+
+    private void dispatchBatch(ChannelHandlerContext ctx) {
+        try {
+            Dispatcher.invokeRead(udpService, batch, ctx.channel(), dispatchStage);
+        } finally {
+            releaseBatch();
+        }
+    }
+
+    private void collect(ChannelHandlerContext ctx, DatagramPacket datagramPacket) {
+        pendingDatagrams.add(Utils.createReadOnlyDatagramWithSenderAddress(datagramPacket,
+                SocketConfig.of(ctx.channel()).isReverseLookup()));
+        DispatchConfig config = dispatchStage.getConfig();
+        if (pendingDatagrams.size() >= config.getBatchMaxCount()) {
+            deliverBatch(ctx);
+        } else if (lingerTimer == null && config.getBatchLingerNanos() > 0) {
+            // the linger time starts with the first datagram of the batch
+            lingerTimer = ctx.executor().schedule(() -> deliverBatch(ctx), config.getBatchLingerNanos(),
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void deliverBatch(ChannelHandlerContext ctx) {
+        if (lingerTimer != null) {
+            lingerTimer.cancel(false);
+            lingerTimer = null;
+        }
+        if (pendingDatagrams.isEmpty()) {
+            return;
+        }
+        List<BMap<BString, Object>> datagrams = pendingDatagrams;
+        pendingDatagrams = new ArrayList<>(dispatchStage.getConfig().getBatchMaxCount());
+        Dispatcher.invokeBatch(udpService, datagrams, ctx.channel(), dispatchStage);
+    }
+
+    private void releaseBatch() {
+        for (DatagramPacket datagramPacket : batch) {
+            datagramPacket.release();
+        }
+        batch.clear();
+    }
 }
@@ -19,19 +19,79 @@
 package io.ballerina.stdlib.udp;
 
 import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BObject;
 
 /**
  * Represent UdpService which used for invoking service remote methods.
+ * The remote methods of the service are looked up once, when the service is attached, so that a received
+ * datagram is dispatched without going through the type of the service.
  */
 public class UdpService {
 
     private final Runtime runtime;
     private final BObject service;
+    // onBytes, onDatagram or onBatch, null if the service has none of them
+    private final String readMethod;
+    // type tags of the parameters of the read method, in the order of the parameters
+    private final int[] readParameterTags;
+    // the readonly datagram array type of the onBatch parameter, null for the other read methods
+    private final ArrayType batchType;
+    private final StrandMetadata readMetadata;
+    private final boolean hasOnError;
+    private final StrandMetadata onErrorMetadata;
 
     public UdpService(Runtime runtime, BObject service) {
         this.runtime = runtime;
         this.service = service;
+        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        MethodType readMethodType = null;
+        boolean onError = false;
+        for (MethodType method : objectType.getMethods()) {
+            switch (method.getName()) {
+                case Constants.ON_BYTES:
+                case Constants.ON_DATAGRAM:
+                case Constants.ON_BATCH:
+                    readMethodType = readMethodType == null ? method : readMethodType;
+                    break;
+                case Constants.ON_ERROR:
+                    onError = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (readMethodType != null) {
+            readMethod = readMethodType.getName();
+            Parameter[] parameters = readMethodType.getType().getParameters();
+            readParameterTags = new int[parameters.length];
+            ArrayType datagramArrayType = null;
+            for (int i = 0; i < parameters.length; i++) {
+                readParameterTags[i] = parameters[i].type.getTag();
+                if (readParameterTags[i] == TypeTags.INTERSECTION_TAG && Constants.ON_BATCH.equals(readMethod)) {
+                    datagramArrayType = (ArrayType) TypeUtils.getImpliedType(parameters[i].type);
+                }
+            }
+            batchType = datagramArrayType;
+            readMetadata = newStrandMetadata(objectType, readMethod);
+        } else {
+            readMethod = null;
+            readParameterTags = new int[0];
+            batchType = null;
+            readMetadata = null;
+        }
+        hasOnError = onError;
+        onErrorMetadata = onError ? newStrandMetadata(objectType, Constants.ON_ERROR) : null;
+    }
+
+    private static StrandMetadata newStrandMetadata(ObjectType objectType, String methodName) {
+        return new StrandMetadata(objectType.isIsolated() && objectType.isIsolated(methodName), null);
     }
 
     public Runtime getRuntime() {
@@ -41,4 +101,34 @@ public class UdpService {
     public BObject getService() {
         return service;
     }
+
+    public String getReadMethod() {
+        return readMethod;
+    }
+
+    public int[] getReadParameterTags() {
+        return readParameterTags;
+    }
+
+    public boolean isBatchService() {
+        return Constants.ON_BATCH.equals(readMethod);
+    }
+
+    public ArrayType getBatchType() {
+        return batchType;
+    }
+
+    public boolean hasOnError() {
+        return hasOnError;
+    }
+
+    /**
+     * Gets the strand metadata of a remote method of the service.
+     *
+     * @param methodName the name of the read method or onError
+     * @return the strand metadata the method is called with
+     */
+    public StrandMetadata getStrandMetadata(String methodName) {
+        return Constants.ON_ERROR.equals(methodName) ? onErrorMetadata : readMetadata;
+    }
 }
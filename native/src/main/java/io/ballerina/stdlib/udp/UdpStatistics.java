@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link UdpStatistics} holds the counters of a udp client or listener.
+ */
+public class UdpStatistics {
+
+    private final LongAdder truncatedDatagrams = new LongAdder();
+    private final LongAdder droppedDatagrams = new LongAdder();
+
+    public void recordTruncatedDatagram() {
+        truncatedDatagrams.increment();
+    }
+
+    public void recordDroppedDatagrams(int count) {
+        droppedDatagrams.add(count);
+    }
+
+    /**
+     * Creates the ballerina record of the counters.
+     *
+     * @return the ballerina `Statistics` record
+     */
+    public BMap<BString, Object> toRecord() {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put(Constants.STATISTICS_TRUNCATED_DATAGRAMS, truncatedDatagrams.sum());
+        statistics.put(Constants.STATISTICS_DROPPED_DATAGRAMS, droppedDatagrams.sum());
+        return ValueCreator.createRecordValue(Utils.getUdpPackage(), Constants.STATISTICS_RECORD, statistics);
+    }
+}
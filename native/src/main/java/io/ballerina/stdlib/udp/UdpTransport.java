@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.values.BString;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.SegmentedDatagramPacket;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * {@link UdpTransport} represents the netty transports which can back the udp sockets.
+ */
+public enum UdpTransport {
+
+    NIO {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(nThreads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends DatagramChannel> datagramChannelClass() {
+            return NioDatagramChannel.class;
+        }
+    },
+
+    EPOLL {
+        @Override
+        public boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(nThreads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends DatagramChannel> datagramChannelClass() {
+            return EpollDatagramChannel.class;
+        }
+
+        @Override
+        public boolean supportsReusePort() {
+            return true;
+        }
+
+        @Override
+        public SegmentationOffload segmentationOffload() {
+            return SegmentedDatagramPacket.isSupported() ? SegmentedDatagramPacket::new : null;
+        }
+
+        @Override
+        public boolean supportsReceiveOffload() {
+            return true;
+        }
+    },
+
+    IO_URING {
+        @Override
+        public boolean isAvailable() {
+            return IOUring.isAvailable();
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+            return new IOUringEventLoopGroup(nThreads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends DatagramChannel> datagramChannelClass() {
+            return IOUringDatagramChannel.class;
+        }
+
+        @Override
+        public boolean supportsReusePort() {
+            return true;
+        }
+    };
+
+    private static final Logger log = LoggerFactory.getLogger(UdpTransport.class);
+
+    public abstract boolean isAvailable();
+
+    public abstract EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory);
+
+    public abstract Class<? extends DatagramChannel> datagramChannelClass();
+
+    public boolean supportsReusePort() {
+        return false;
+    }
+
+    /**
+     * Gets the segmentation offload (UDP_SEGMENT) of the transport, which only the transports able to offload
+     * the segmentation on this host expose.
+     *
+     * @return the segmentation offload, or null if the datagrams have to be segmented before they are written
+     */
+    public SegmentationOffload segmentationOffload() {
+        return null;
+    }
+
+    // netty splits the coalesced datagrams read with UDP_GRO back into the datagrams sent by the peer
+    public boolean supportsReceiveOffload() {
+        return false;
+    }
+
+    /**
+     * {@link SegmentationOffload} creates the datagrams which the kernel splits into datagrams of a segment size.
+     */
+    @FunctionalInterface
+    public interface SegmentationOffload {
+
+        /**
+         * Creates a datagram which the kernel splits into datagrams of the given segment size (UDP_SEGMENT).
+         *
+         * @param content the payload of all the segments
+         * @param segmentSize the size of each datagram sent on the wire
+         * @param recipient the address of the remote host
+         * @return the segmented datagram
+         */
+        DatagramPacket newSegmentedDatagram(ByteBuf content, int segmentSize, InetSocketAddress recipient);
+    }
+
+    /**
+     * Resolves the transport configured in ballerina, falling back to NIO if it can't be used on this host.
+     *
+     * @param transport name of the configured transport, null if it is not configured
+     * @return the transport to be used for the socket
+     */
+    public static UdpTransport fromConfig(BString transport) {
+        if (transport == null) {
+            return NIO;
+        }
+        UdpTransport udpTransport = UdpTransport.valueOf(transport.getValue());
+        if (!udpTransport.isAvailable()) {
+            log.warn("{} transport is not available on this host, falling back to {}.", udpTransport, NIO);
+            return NIO;
+        }
+        return udpTransport;
+    }
+}
@@ -21,7 +21,10 @@ package io.ballerina.stdlib.udp;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
@@ -30,13 +33,21 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.socket.DatagramPacket;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents the util functions of Socket operations.
@@ -47,6 +58,11 @@ public final class Utils {
 
     private Utils() {}
 
+    // the field names of a datagram, which are looked up for every sent and received datagram
+    private static final BString DATAGRAM_REMOTE_HOST = StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST);
+    private static final BString DATAGRAM_REMOTE_PORT = StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT);
+    private static final BString DATAGRAM_DATA = StringUtils.fromString(Constants.DATAGRAM_DATA);
+
     /**
      * udp standard library package ID.
      */
@@ -57,52 +73,281 @@ public final class Utils {
                 StringUtils.fromString(errMsg), null, null);
     }
 
-    public static BMap<BString, Object> createReadOnlyDatagramWithSenderAddress(DatagramPacket datagramPacket) {
-        byte[] byteContent = new byte[datagramPacket.content().readableBytes()];
-        datagramPacket.content().readBytes(byteContent);
-        Map<String, Object> datagramContent = new HashMap<>();
-        datagramContent.put(Constants.DATAGRAM_REMOTE_PORT, datagramPacket.sender().getPort());
-        datagramContent.put(Constants.DATAGRAM_REMOTE_HOST, StringUtils
-                .fromString(datagramPacket.sender().getHostName()));
-        datagramContent.put(Constants.DATAGRAM_DATA, ValueCreator.createArrayValue(byteContent));
-        BMap<BString, Object> datagram = ValueCreator.createReadonlyRecordValue(getUdpPackage(),
-                Constants.DATAGRAM_RECORD, datagramContent);
-        return datagram;
+    /**
+     * Creates the error of a batch send which failed to send some of the datagrams of the batch.
+     *
+     * @param errMsg the error message
+     * @param failedIndexes the indexes of the datagrams which couldn't be sent
+     * @return the ballerina `udp:BatchSendError`
+     */
+    public static BError createBatchSendError(String errMsg, long[] failedIndexes) {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put(Constants.ERROR_FAILED_INDEXES, ValueCreator.createArrayValue(failedIndexes));
+        return ErrorCreator.createError(getUdpPackage(), Constants.ErrorType.BatchSendError.errorType(),
+                StringUtils.fromString(errMsg), null, ValueCreator.createRecordValue(getUdpPackage(),
+                        Constants.BATCH_SEND_ERROR_DETAIL_RECORD, detail));
+    }
+
+    /**
+     * Completes the ballerina future of a batch send once all the datagrams of the batch are sent or failed.
+     *
+     * @param futures the futures of the datagrams of the batch
+     * @param balFuture the ballerina future, completed with a `udp:BatchSendError` if any datagram failed
+     */
+    public static void completeBatch(List<ChannelFuture> futures, CompletableFuture<Object> balFuture) {
+        if (futures.isEmpty()) {
+            balFuture.complete(null);
+            return;
+        }
+        Throwable[] causes = new Throwable[futures.size()];
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            futures.get(i).addListener((ChannelFutureListener) future -> {
+                causes[index] = future.cause();
+                if (remaining.decrementAndGet() == 0) {
+                    balFuture.complete(getBatchResult(causes));
+                }
+            });
+        }
+    }
+
+    private static BError getBatchResult(Throwable[] causes) {
+        long[] failedIndexes = new long[causes.length];
+        int failed = 0;
+        Throwable firstCause = null;
+        for (int i = 0; i < causes.length; i++) {
+            if (causes[i] != null) {
+                firstCause = firstCause == null ? causes[i] : firstCause;
+                failedIndexes[failed++] = i;
+            }
+        }
+        if (failed == 0) {
+            return null;
+        }
+        String reason = firstCause.getMessage() != null ? firstCause.getMessage()
+                : firstCause.getClass().getSimpleName();
+        return createBatchSendError("Failed to send " + failed + " of the " + causes.length + " datagrams: "
+                + reason, Arrays.copyOf(failedIndexes, failed));
+    }
+
+    /**
+     * Creates the datagram packet of a ballerina `udp:Datagram`.
+     *
+     * @param datagram the ballerina datagram
+     * @return the datagram packet holding a copy of the data in a pooled buffer
+     */
+    public static DatagramPacket createDatagramPacket(BMap<BString, Object> datagram) {
+        String host = datagram.getStringValue(DATAGRAM_REMOTE_HOST).getValue();
+        int port = datagram.getIntValue(DATAGRAM_REMOTE_PORT).intValue();
+        BArray data = datagram.getArrayValue(DATAGRAM_DATA);
+        // the address is resolved first, as an invalid port or host fails before a pooled buffer is taken
+        InetSocketAddress remoteAddress = AddressCache.resolve(host, port);
+        return new DatagramPacket(BufferAllocator.copyOf(data.getBytes()), remoteAddress);
+    }
+
+    /**
+     * Creates the datagram packets of a batch of ballerina `udp:Datagram`s. A datagram which can't be created,
+     * for example for an invalid port, is left as null with its cause, so that it fails on its own index rather
+     * than failing the whole batch.
+     *
+     * @param datagrams the ballerina datagrams
+     * @param causes filled with the causes of the datagrams which can't be created
+     * @return the datagram packets, null for the datagrams which can't be created
+     */
+    @SuppressWarnings("unchecked")
+    public static List<DatagramPacket> createDatagramPackets(BArray datagrams, Throwable[] causes) {
+        List<DatagramPacket> datagramPackets = new ArrayList<>(datagrams.size());
+        for (int i = 0; i < datagrams.size(); i++) {
+            try {
+                datagramPackets.add(createDatagramPacket((BMap<BString, Object>) datagrams.get(i)));
+            } catch (RuntimeException e) {
+                datagramPackets.add(null);
+                causes[i] = e;
+            }
+        }
+        return datagramPackets;
+    }
+
+    /**
+     * Sends a batch of datagrams with a single flush of the channel, and completes the ballerina future once all
+     * of them are sent or failed.
+     *
+     * @param channel the channel the datagrams are sent by
+     * @param datagrams the datagrams of the batch, null for the datagrams which couldn't be created
+     * @param causes the causes of the datagrams which couldn't be created
+     * @param balFuture the ballerina future, completed with a `udp:BatchSendError` if any datagram failed
+     */
+    public static void sendBatch(Channel channel, List<DatagramPacket> datagrams, Throwable[] causes,
+                                 CompletableFuture<Object> balFuture) {
+        SendQueue sendQueue = SendQueue.of(channel);
+        if (sendQueue == null) {
+            // the pipeline of the closed channel is torn down
+            for (DatagramPacket datagram : datagrams) {
+                if (datagram != null) {
+                    datagram.release();
+                }
+            }
+            balFuture.complete(createUdpError("Socket is closed"));
+            return;
+        }
+        SocketConfig socketConfig = SocketConfig.of(channel);
+        List<ArrayDeque<DatagramPacket>> batch = new ArrayList<>(datagrams.size());
+        int fragmented = 0;
+        try {
+            for (; fragmented < datagrams.size(); fragmented++) {
+                DatagramPacket datagram = datagrams.get(fragmented);
+                if (datagram != null) {
+                    batch.add(fragmentDatagram(datagram, socketConfig));
+                }
+            }
+        } catch (RuntimeException e) {
+            // none of the batch is sent, so the buffers of the datagrams go back to the allocator
+            for (ArrayDeque<DatagramPacket> fragments : batch) {
+                fragments.forEach(DatagramPacket::release);
+            }
+            for (int i = fragmented + 1; i < datagrams.size(); i++) {
+                if (datagrams.get(i) != null) {
+                    datagrams.get(i).release();
+                }
+            }
+            balFuture.complete(createUdpError("Failed to send the datagrams: " + e.getMessage()));
+            return;
+        }
+        List<ChannelFuture> sent = sendQueue.sendAll(batch);
+        List<ChannelFuture> futures = new ArrayList<>(datagrams.size());
+        int next = 0;
+        for (int i = 0; i < datagrams.size(); i++) {
+            futures.add(datagrams.get(i) == null ? channel.newFailedFuture(causes[i]) : sent.get(next++));
+        }
+        completeBatch(futures, balFuture);
+    }
+
+    public static BMap<BString, Object> createReadOnlyDatagramWithSenderAddress(DatagramPacket datagramPacket,
+                                                                             boolean reverseLookup) {
+        return createReadonlyDatagram(datagramPacket, datagramPacket.sender(), reverseLookup);
+    }
+
+    static BMap<BString, Object> createReadonlyDatagramWithRecipientAddress(DatagramPacket datagramPacket,
+                                                                           boolean reverseLookup) {
+        return createReadonlyDatagram(datagramPacket, datagramPacket.recipient(), reverseLookup);
     }
 
-    static BMap<BString, Object> createReadonlyDatagramWithRecipientAddress(DatagramPacket datagramPacket) {
-        byte[] byteContent = new byte[datagramPacket.content().readableBytes()];
-        datagramPacket.content().readBytes(byteContent);
-        Map<String, Object> datagramContent = new HashMap<>();
-        datagramContent.put(Constants.DATAGRAM_REMOTE_PORT, datagramPacket.recipient().getPort());
-        datagramContent.put(Constants.DATAGRAM_REMOTE_HOST, StringUtils
-                .fromString(datagramPacket.recipient().getHostName()));
-        datagramContent.put(Constants.DATAGRAM_DATA, ValueCreator.createArrayValue(byteContent));
-        BMap<BString, Object> datagram = ValueCreator.createReadonlyRecordValue(getUdpPackage(),
-                Constants.DATAGRAM_RECORD, datagramContent);
+    // the record is filled in place with the precomputed field names, and the data is copied out of the
+    // buffer once into the byte array backing the ballerina array
+    private static BMap<BString, Object> createReadonlyDatagram(DatagramPacket datagramPacket,
+                                                                InetSocketAddress address, boolean reverseLookup) {
+        BMap<BString, Object> datagram = ValueCreator.createRecordValue(getUdpPackage(), Constants.DATAGRAM_RECORD);
+        datagram.put(DATAGRAM_REMOTE_HOST, HostNames.of(address, reverseLookup));
+        datagram.put(DATAGRAM_REMOTE_PORT, (long) address.getPort());
+        datagram.put(DATAGRAM_DATA, getReadonlyBytesFromDatagram(datagramPacket));
+        datagram.freezeDirect();
         return datagram;
     }
 
     static BArray getReadonlyBytesFromDatagram(DatagramPacket datagramPacket) {
-        byte[] byteContent = new byte[datagramPacket.content().readableBytes()];
-        datagramPacket.content().readBytes(byteContent);
-        return ValueCreator.createReadonlyArrayValue(byteContent);
+        return ValueCreator.createReadonlyArrayValue(ByteBufUtil.getBytes(datagramPacket.content()));
+    }
+
+    /**
+     * Creates the ballerina array of the datagrams of a batch receive of a connectionless client.
+     *
+     * @param readResult the list of the received datagrams, or an error
+     * @return the `(readonly & Datagram)[]` array, or the error
+     */
+    @SuppressWarnings("unchecked")
+    public static Object createDatagramArray(Object readResult) {
+        if (!(readResult instanceof List)) {
+            return readResult;
+        }
+        return ValueCreator.createArrayValue(((List<Object>) readResult).toArray(), ReadResultTypes.DATAGRAMS);
+    }
+
+    /**
+     * Creates the ballerina array of the data of a batch receive of a connect client.
+     *
+     * @param readResult the list of the received data, or an error
+     * @return the `(readonly & byte[])[]` array, or the error
+     */
+    @SuppressWarnings("unchecked")
+    public static Object createBytesArray(Object readResult) {
+        if (!(readResult instanceof List)) {
+            return readResult;
+        }
+        return ValueCreator.createArrayValue(((List<Object>) readResult).toArray(), ReadResultTypes.BYTES);
+    }
+
+    // the types are taken from the values the clients receive, once the module is initialized
+    private static final class ReadResultTypes {
+
+        private static final ArrayType DATAGRAMS = TypeCreator.createArrayType(readonlyDatagramType());
+        private static final ArrayType BYTES = TypeCreator.createArrayType(
+                ValueCreator.createReadonlyArrayValue(new byte[0]).getType());
+
+        private static Type readonlyDatagramType() {
+            BMap<BString, Object> datagram = ValueCreator.createRecordValue(getUdpPackage(),
+                    Constants.DATAGRAM_RECORD);
+            datagram.freezeDirect();
+            return datagram.getType();
+        }
+    }
+
+    static ArrayDeque<DatagramPacket> fragmentDatagram(DatagramPacket datagram, SocketConfig socketConfig) {
+        int segmentSize = socketConfig.getGsoSegmentSize();
+        if (segmentSize == 0) {
+            return fragmentDatagram(datagram, Constants.DATAGRAM_DATA_SIZE);
+        }
+        UdpTransport.SegmentationOffload offload = socketConfig.getTransport().segmentationOffload();
+        if (offload == null) {
+            return fragmentDatagram(datagram, segmentSize);
+        }
+        // write as many segments as a single datagram can carry and let the kernel split them
+        int segmentsPerWrite = Math.min(Constants.MAX_GSO_SEGMENTS, Constants.MAX_DATAGRAM_PAYLOAD_SIZE / segmentSize);
+        int maxWriteSize = segmentsPerWrite * segmentSize;
+        ByteBuf content = datagram.content();
+        if (content.readableBytes() <= segmentSize) {
+            return singleDatagram(datagram);
+        }
+        if (content.readableBytes() <= maxWriteSize) {
+            return singleDatagram(offload.newSegmentedDatagram(content, segmentSize, datagram.recipient()));
+        }
+        ArrayDeque<DatagramPacket> fragments = new ArrayDeque<>(content.readableBytes() / maxWriteSize + 1);
+        while (content.isReadable()) {
+            int writeSize = Math.min(content.readableBytes(), maxWriteSize);
+            ByteBuf data = content.readRetainedSlice(writeSize);
+            if (writeSize > segmentSize) {
+                fragments.add(offload.newSegmentedDatagram(data, segmentSize, datagram.recipient()));
+            } else {
+                fragments.add(datagram.replace(data));
+            }
+        }
+        datagram.release();
+        return fragments;
     }
 
-    static LinkedList<DatagramPacket> fragmentDatagram(DatagramPacket datagram) {
+    private static ArrayDeque<DatagramPacket> fragmentDatagram(DatagramPacket datagram, int fragmentSize) {
         ByteBuf content = datagram.content();
         int contentSize = content.readableBytes();
-        LinkedList<DatagramPacket> fragments = new LinkedList<>();
+        if (contentSize <= fragmentSize) {
+            // the buffer of a datagram which fits in a single write is handed over to the channel as it is
+            return singleDatagram(datagram);
+        }
+        ArrayDeque<DatagramPacket> fragments = new ArrayDeque<>(contentSize / fragmentSize + 1);
 
         while (contentSize > 0) {
-            if (contentSize > Constants.DATAGRAM_DATA_SIZE) {
-                fragments.add(datagram.replace(content.readBytes(Constants.DATAGRAM_DATA_SIZE)));
-                contentSize -= Constants.DATAGRAM_DATA_SIZE;
-            } else {
-                fragments.add(datagram.replace(datagram.content().readBytes(contentSize)));
-                contentSize = 0;
-            }
+            int size = Math.min(contentSize, fragmentSize);
+            fragments.add(datagram.replace(content.readRetainedSlice(size)));
+            contentSize -= size;
         }
+        // every fragment is a slice holding its own reference to the buffer of the datagram, which is
+        // returned to the allocator once the last fragment is written
+        datagram.release();
+        return fragments;
+    }
+
+    private static ArrayDeque<DatagramPacket> singleDatagram(DatagramPacket datagram) {
+        ArrayDeque<DatagramPacket> fragments = new ArrayDeque<>(1);
+        fragments.add(datagram);
         return fragments;
     }
 
@@ -21,16 +21,20 @@ package io.ballerina.stdlib.udp.nativeclient;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.EventLoopGroupConfig;
+import io.ballerina.stdlib.udp.SocketConfig;
 import io.ballerina.stdlib.udp.UdpClient;
 import io.ballerina.stdlib.udp.UdpFactory;
-import io.netty.buffer.Unpooled;
+import io.ballerina.stdlib.udp.Utils;
 import io.netty.channel.socket.DatagramPacket;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.stdlib.udp.Utils.getLocalInetSocketAddress;
@@ -50,7 +54,16 @@ public final class Client {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             BString host = config.getStringValue(StringUtils.fromString(Constants.CONFIG_LOCALHOST));
             InetSocketAddress localAddress = getLocalInetSocketAddress(client, config);
-            UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, balFuture);
+            SocketConfig socketConfig;
+            EventLoopGroupConfig groupConfig;
+            try {
+                socketConfig = SocketConfig.fromConfig(config);
+                groupConfig = EventLoopGroupConfig.fromConfig(config);
+            } catch (IllegalArgumentException e) {
+                return Utils.createUdpError(e.getMessage());
+            }
+            UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, balFuture, socketConfig,
+                    groupConfig);
             client.addNativeData(Constants.CONNECTIONLESS_CLIENT, udpClient);
             return getResult(balFuture);
         });
@@ -69,18 +82,69 @@ public final class Client {
     public static Object send(Environment env, BObject client, BMap<BString, Object> datagram) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
-            String host = datagram.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue();
-            int port = datagram.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT)).intValue();
-            BArray data = datagram.getArrayValue(StringUtils.fromString(Constants.DATAGRAM_DATA));
-            byte[] byteContent = data.getBytes();
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
-                    new InetSocketAddress(host, port));
+            DatagramPacket datagramPacket = Utils.createDatagramPacket(datagram);
             UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
             udpClient.sendData(datagramPacket, balFuture);
             return getResult(balFuture);
         });
     }
 
+    public static Object sendBatch(Environment env, BObject client, BArray datagrams) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            Throwable[] causes = new Throwable[datagrams.size()];
+            List<DatagramPacket> datagramPackets = Utils.createDatagramPackets(datagrams, causes);
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            udpClient.sendBatch(datagramPackets, causes, balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object receiveBatch(Environment env, BObject client, long maxCount, Object timeout) {
+        if (maxCount < 1 || maxCount > Integer.MAX_VALUE) {
+            return Utils.createUdpError("The maxCount should be greater than zero.");
+        }
+        double readTimeOut = timeout == null ? (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT)
+                : ((BDecimal) timeout).floatValue();
+        if (readTimeOut < 0) {
+            return Utils.createUdpError("The timeout should not be negative.");
+        }
+        return receiveBatch(env, client, (int) maxCount, readTimeOut);
+    }
+
+    // the stream waits for the datagrams without a deadline
+    public static Object receiveStreamBatch(Environment env, BObject client, long maxCount) {
+        return receiveBatch(env, client, (int) maxCount, -1);
+    }
+
+    private static Object receiveBatch(Environment env, BObject client, int maxCount, double readTimeOut) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            udpClient.receiveBatch(maxCount, readTimeOut, balFuture);
+            return Utils.createDatagramArray(getResult(balFuture));
+        });
+    }
+
+    public static Object openStream(BObject client, long capacity) {
+        if (capacity < 1 || capacity > Integer.MAX_VALUE) {
+            return Utils.createUdpError("The capacity of the stream should be greater than zero.");
+        }
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        udpClient.setStreamCapacity((int) capacity);
+        return null;
+    }
+
+    public static void closeStream(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        udpClient.setStreamCapacity(0);
+    }
+
+    public static Object getStatistics(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        return udpClient.getStatistics().toRecord();
+    }
+
     public static Object close(Environment env, BObject client) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
@@ -20,16 +20,22 @@ package io.ballerina.stdlib.udp.nativeclient;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.BufferAllocator;
 import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.EventLoopGroupConfig;
+import io.ballerina.stdlib.udp.SocketConfig;
 import io.ballerina.stdlib.udp.UdpClient;
 import io.ballerina.stdlib.udp.UdpFactory;
-import io.netty.buffer.Unpooled;
+import io.ballerina.stdlib.udp.Utils;
 import io.netty.channel.socket.DatagramPacket;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.stdlib.udp.Utils.getLocalInetSocketAddress;
@@ -51,7 +57,16 @@ public final class ConnectClient {
             InetSocketAddress localAddress = getLocalInetSocketAddress(client, config);
             InetSocketAddress remoteAddress = new InetSocketAddress(remoteHost.getValue(), remotePort);
             client.addNativeData(Constants.REMOTE_ADDRESS, remoteAddress);
-            UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, remoteAddress, balFuture);
+            SocketConfig socketConfig;
+            EventLoopGroupConfig groupConfig;
+            try {
+                socketConfig = SocketConfig.fromConfig(config);
+                groupConfig = EventLoopGroupConfig.fromConfig(config);
+            } catch (IllegalArgumentException e) {
+                return Utils.createUdpError(e.getMessage());
+            }
+            UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, remoteAddress, balFuture,
+                    socketConfig, groupConfig);
             client.addNativeData(Constants.CONNECT_CLIENT, udpClient);
             return getResult(balFuture);
         });
@@ -72,13 +87,73 @@ public final class ConnectClient {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             byte[] byteContent = data.getBytes();
             InetSocketAddress remoteAddress = (InetSocketAddress) client.getNativeData(Constants.REMOTE_ADDRESS);
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent), remoteAddress);
+            DatagramPacket datagramPacket = new DatagramPacket(BufferAllocator.copyOf(byteContent), remoteAddress);
             UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
             udpClient.sendData(datagramPacket, balFuture);
             return null;
         });
     }
 
+    public static Object writeBatch(Environment env, BObject client, BArray data) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            InetSocketAddress remoteAddress = (InetSocketAddress) client.getNativeData(Constants.REMOTE_ADDRESS);
+            List<DatagramPacket> datagramPackets = new ArrayList<>(data.size());
+            for (int i = 0; i < data.size(); i++) {
+                byte[] byteContent = ((BArray) data.get(i)).getBytes();
+                datagramPackets.add(new DatagramPacket(BufferAllocator.copyOf(byteContent), remoteAddress));
+            }
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            udpClient.sendBatch(datagramPackets, new Throwable[data.size()], balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object receiveBatch(Environment env, BObject client, long maxCount, Object timeout) {
+        if (maxCount < 1 || maxCount > Integer.MAX_VALUE) {
+            return Utils.createUdpError("The maxCount should be greater than zero.");
+        }
+        double readTimeOut = timeout == null ? (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT)
+                : ((BDecimal) timeout).floatValue();
+        if (readTimeOut < 0) {
+            return Utils.createUdpError("The timeout should not be negative.");
+        }
+        return receiveBatch(env, client, (int) maxCount, readTimeOut);
+    }
+
+    // the stream waits for the datagrams without a deadline
+    public static Object receiveStreamBatch(Environment env, BObject client, long maxCount) {
+        return receiveBatch(env, client, (int) maxCount, -1);
+    }
+
+    private static Object receiveBatch(Environment env, BObject client, int maxCount, double readTimeOut) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            udpClient.receiveBatch(maxCount, readTimeOut, balFuture);
+            return Utils.createBytesArray(getResult(balFuture));
+        });
+    }
+
+    public static Object openStream(BObject client, long capacity) {
+        if (capacity < 1 || capacity > Integer.MAX_VALUE) {
+            return Utils.createUdpError("The capacity of the stream should be greater than zero.");
+        }
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        udpClient.setStreamCapacity((int) capacity);
+        return null;
+    }
+
+    public static void closeStream(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        udpClient.setStreamCapacity(0);
+    }
+
+    public static Object getStatistics(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        return udpClient.getStatistics().toRecord();
+    }
+
     public static Object close(Environment env, BObject client) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
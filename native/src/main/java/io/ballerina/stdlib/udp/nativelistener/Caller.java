@@ -19,18 +19,19 @@
 package io.ballerina.stdlib.udp.nativelistener;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.BufferAllocator;
 import io.ballerina.stdlib.udp.Constants;
 import io.ballerina.stdlib.udp.UdpListener;
-import io.netty.buffer.Unpooled;
+import io.ballerina.stdlib.udp.Utils;
 import io.netty.channel.Channel;
 import io.netty.channel.socket.DatagramPacket;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.stdlib.udp.Utils.getResult;
@@ -44,13 +45,16 @@ public final class Caller {
 
     public static Object sendBytes(Environment env, BObject caller, BArray data) {
         return env.yieldAndRun(() -> {
+            // the address the datagram was received from, which the reply goes back to without a lookup
+            InetSocketAddress remoteAddress = (InetSocketAddress) caller.getNativeData(
+                    Constants.CALLER_REMOTE_ADDRESS);
+            if (remoteAddress == null) {
+                // the caller of an onBatch call has no single remote host
+                return Utils.createUdpError("The caller has no remote host, use sendDatagram instead.");
+            }
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             byte[] byteContent = data.getBytes();
-            String remoteHost = caller.getStringValue(StringUtils.fromString(Constants.CALLER_REMOTE_HOST))
-                    .getValue();
-            int remotePort = ((Integer) caller.get(StringUtils.fromString(Constants.CALLER_REMOTE_PORT)));
-            InetSocketAddress remoteAddress = new InetSocketAddress(remoteHost, remotePort);
-            DatagramPacket datagram = new DatagramPacket(Unpooled.wrappedBuffer(byteContent), remoteAddress);
+            DatagramPacket datagram = new DatagramPacket(BufferAllocator.copyOf(byteContent), remoteAddress);
             Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
 
             UdpListener.send(datagram, channel, balFuture);
@@ -61,16 +65,23 @@ public final class Caller {
     public static Object sendDatagram(Environment env, BObject caller, BMap<BString, Object> datagram) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
-            String host = datagram.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue();
-            int port = datagram.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT)).intValue();
-            BArray data = datagram.getArrayValue(StringUtils.fromString(Constants.DATAGRAM_DATA));
-            byte[] byteContent = data.getBytes();
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
-                    new InetSocketAddress(host, port));
+            DatagramPacket datagramPacket = Utils.createDatagramPacket(datagram);
 
             Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
             UdpListener.send(datagramPacket, channel, balFuture);
             return getResult(balFuture);
         });
     }
+
+    public static Object sendDatagrams(Environment env, BObject caller, BArray datagrams) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            Throwable[] causes = new Throwable[datagrams.size()];
+            List<DatagramPacket> datagramPackets = Utils.createDatagramPackets(datagrams, causes);
+
+            Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
+            UdpListener.sendBatch(datagramPackets, causes, channel, balFuture);
+            return getResult(balFuture);
+        });
+    }
 }
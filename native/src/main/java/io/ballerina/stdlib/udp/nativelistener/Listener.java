@@ -23,9 +23,13 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.DispatchConfig;
+import io.ballerina.stdlib.udp.EventLoopGroupConfig;
+import io.ballerina.stdlib.udp.SocketConfig;
 import io.ballerina.stdlib.udp.UdpFactory;
 import io.ballerina.stdlib.udp.UdpListener;
 import io.ballerina.stdlib.udp.UdpService;
+import io.ballerina.stdlib.udp.UdpStatistics;
 import io.ballerina.stdlib.udp.Utils;
 
 import java.net.InetAddress;
@@ -72,8 +76,16 @@ public final class Listener {
             try {
                 UdpService udpService = (UdpService) listener.getNativeData(Constants.SERVICE);
                 remoteAddress = getRemoteAddress(remoteHost, remotePort);
-                UdpListener udpListener = UdpFactory.getInstance()
-                        .createUdpListener(localAddress, remoteAddress, balFuture, udpService);
+                SocketConfig socketConfig = SocketConfig.fromConfig(config);
+                int channelCount = getChannelCount(
+                        config.getIntValue(StringUtils.fromString(Constants.CONFIG_CHANNEL_COUNT)));
+                int receiveBatchSize = getReceiveBatchSize(
+                        config.getIntValue(StringUtils.fromString(Constants.CONFIG_RECEIVE_BATCH_SIZE)));
+                DispatchConfig dispatchConfig = DispatchConfig.fromConfig(config);
+                EventLoopGroupConfig groupConfig = EventLoopGroupConfig.fromConfig(config);
+                UdpListener udpListener = UdpFactory.getInstance().createUdpListener(localAddress, remoteAddress,
+                        balFuture, udpService, socketConfig, channelCount, receiveBatchSize, dispatchConfig,
+                        groupConfig);
                 listener.addNativeData(Constants.LISTENER, udpListener);
             } catch (Exception e) {
                 balFuture.complete(Utils.createUdpError(e.getMessage()));
@@ -117,4 +129,30 @@ public final class Listener {
         }
         return null;
     }
+
+    public static Object getStatistics(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        // a listener which hasn't been started yet has nothing to count
+        UdpStatistics statistics = udpListener == null ? new UdpStatistics() : udpListener.getStatistics();
+        return statistics.toRecord();
+    }
+
+    private static int getChannelCount(Long channelCount) throws Exception {
+        if (channelCount == null) {
+            return 1;
+        } else if (channelCount < 1) {
+            throw new Exception("The channelCount should be greater than zero.");
+        }
+        return (int) channelCount.longValue();
+    }
+
+    private static int getReceiveBatchSize(Long receiveBatchSize) throws Exception {
+        if (receiveBatchSize == null) {
+            return 1;
+        } else if (receiveBatchSize < 1 || receiveBatchSize > Constants.MAX_RECEIVE_BATCH_SIZE) {
+            throw new Exception("The receiveBatchSize should be between 1 and " + Constants.MAX_RECEIVE_BATCH_SIZE
+                    + ".");
+        }
+        return (int) receiveBatchSize.longValue();
+    }
 }
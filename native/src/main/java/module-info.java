@@ -25,5 +25,8 @@ module io.ballerina.stdlib.udp {
     requires io.netty.handler;
     requires io.netty.buffer;
     requires io.netty.common;
+    requires io.netty.transport.unix.common;
+    requires io.netty.transport.classes.epoll;
+    requires io.netty.incubator.transport.classes.io_uring;
     exports io.ballerina.stdlib.udp;
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.DatagramPacket;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+
+/**
+ * Tests the bytes allocated to fragment a large datagram. The fragments are slices of the buffer of the datagram,
+ * so fragmenting allocates a few bytes for every fragment rather than a copy of the payload.
+ */
+public class FragmentationAllocationTest {
+
+    private static final int PAYLOAD_SIZE = 1024 * 1024;
+    private static final int WARMUP_DATAGRAMS = 200;
+    private static final int MEASURED_DATAGRAMS = 200;
+    // far below the payload, which a copy of every fragment would allocate again
+    private static final long MAX_ALLOCATED_BYTES = PAYLOAD_SIZE / 16;
+
+    private final SocketConfig socketConfig = SocketConfig.of(new EmbeddedChannel());
+    private final InetSocketAddress recipient = new InetSocketAddress("127.0.0.1", 9000);
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeClass
+    public void enableAllocationMeasurement() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("The bytes allocated by a thread cannot be measured");
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        threadMXBean = bean;
+    }
+
+    @Test(description = "Test the bytes allocated to fragment a large datagram")
+    public void testFragmentationAllocation() {
+        for (int i = 0; i < WARMUP_DATAGRAMS; i++) {
+            release(Utils.fragmentDatagram(newDatagramPacket(), socketConfig));
+        }
+        long allocated = 0;
+        for (int i = 0; i < MEASURED_DATAGRAMS; i++) {
+            DatagramPacket datagram = newDatagramPacket();
+            long before = allocatedBytes();
+            ArrayDeque<DatagramPacket> fragments = Utils.fragmentDatagram(datagram, socketConfig);
+            allocated += allocatedBytes() - before;
+            release(fragments);
+        }
+        long perDatagram = allocated / MEASURED_DATAGRAMS;
+        Assert.assertTrue(perDatagram <= MAX_ALLOCATED_BYTES,
+                "Allocated " + perDatagram + " bytes to fragment a datagram of " + PAYLOAD_SIZE + " bytes");
+    }
+
+    @Test(description = "Test that the buffer of a fragmented datagram is released with its fragments")
+    public void testFragmentsRelease() {
+        DatagramPacket datagram = newDatagramPacket();
+        ByteBuf content = datagram.content();
+        ArrayDeque<DatagramPacket> fragments = Utils.fragmentDatagram(datagram, socketConfig);
+
+        Assert.assertEquals(fragments.size(), PAYLOAD_SIZE / Constants.DATAGRAM_DATA_SIZE);
+        int offset = 0;
+        for (DatagramPacket fragment : fragments) {
+            Assert.assertEquals(fragment.content().readableBytes(), Constants.DATAGRAM_DATA_SIZE);
+            Assert.assertEquals(fragment.content().getByte(fragment.content().readerIndex()), (byte) offset);
+            Assert.assertEquals(fragment.recipient(), recipient);
+            offset += fragment.content().readableBytes();
+        }
+        Assert.assertEquals(offset, PAYLOAD_SIZE);
+        Assert.assertEquals(content.refCnt(), fragments.size());
+
+        release(fragments);
+        Assert.assertEquals(content.refCnt(), 0);
+    }
+
+    private DatagramPacket newDatagramPacket() {
+        ByteBuf content = BufferAllocator.get().directBuffer(PAYLOAD_SIZE);
+        for (int i = 0; i < PAYLOAD_SIZE; i++) {
+            content.writeByte(i);
+        }
+        return new DatagramPacket(content, recipient);
+    }
+
+    private static void release(ArrayDeque<DatagramPacket> fragments) {
+        fragments.forEach(DatagramPacket::release);
+    }
+
+    private long allocatedBytes() {
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.socket.DatagramPacket;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+
+/**
+ * Tests the bytes allocated for every datagram on the read path. The payload is copied once into the readonly
+ * bytes of the datagram and the host string of the sender is not formatted again for every datagram.
+ */
+public class ReadPathAllocationTest {
+
+    private static final int PAYLOAD_SIZE = 1024;
+    private static final int WARMUP_DATAGRAMS = 10_000;
+    private static final int MEASURED_DATAGRAMS = 10_000;
+    // the array header, the readonly array value and the alignment of the copy of the payload
+    private static final long MAX_OVERHEAD_BYTES = 256;
+    private static final long MAX_HOST_BYTES = 16;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeClass
+    public void enableAllocationMeasurement() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("The bytes allocated by a thread cannot be measured");
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        threadMXBean = bean;
+    }
+
+    @Test(description = "Test the bytes allocated for the data of every datagram read")
+    public void testReadBytesAllocation() {
+        InetSocketAddress sender = new InetSocketAddress("127.0.0.1", 9000);
+        DatagramPacket packet = newDatagramPacket(sender);
+        try {
+            for (int i = 0; i < WARMUP_DATAGRAMS; i++) {
+                read(packet);
+            }
+            long allocated = allocatedBytes();
+            for (int i = 0; i < MEASURED_DATAGRAMS; i++) {
+                read(packet);
+            }
+            long perDatagram = (allocatedBytes() - allocated) / MEASURED_DATAGRAMS;
+            Assert.assertTrue(perDatagram <= PAYLOAD_SIZE + MAX_OVERHEAD_BYTES,
+                    "Allocated " + perDatagram + " bytes for every datagram of " + PAYLOAD_SIZE + " bytes");
+            Assert.assertEquals(packet.content().readerIndex(), 0);
+            Assert.assertEquals(read(packet).size(), PAYLOAD_SIZE);
+        } finally {
+            packet.release();
+        }
+    }
+
+    @Test(description = "Test the bytes allocated for the host string of the sender of every datagram read")
+    public void testSenderHostAllocation() {
+        InetSocketAddress sender = new InetSocketAddress("127.0.0.1", 9000);
+        BString host = HostNames.of(sender, false);
+        for (int i = 0; i < WARMUP_DATAGRAMS; i++) {
+            HostNames.of(sender, false);
+        }
+        long allocated = allocatedBytes();
+        for (int i = 0; i < MEASURED_DATAGRAMS; i++) {
+            HostNames.of(sender, false);
+        }
+        long perDatagram = (allocatedBytes() - allocated) / MEASURED_DATAGRAMS;
+        Assert.assertTrue(perDatagram <= MAX_HOST_BYTES,
+                "Allocated " + perDatagram + " bytes for the host string of every datagram");
+        Assert.assertSame(HostNames.of(sender, false), host);
+        Assert.assertEquals(host.getValue(), "127.0.0.1");
+    }
+
+    private static BArray read(DatagramPacket packet) {
+        BString host = HostNames.of(packet.sender(), false);
+        BArray data = Utils.getReadonlyBytesFromDatagram(packet);
+        if (host.getValue().isEmpty()) {
+            throw new IllegalStateException("No host string of the sender");
+        }
+        return data;
+    }
+
+    private static DatagramPacket newDatagramPacket(InetSocketAddress sender) {
+        ByteBuf content = Unpooled.directBuffer(PAYLOAD_SIZE);
+        for (int i = 0; i < PAYLOAD_SIZE; i++) {
+            content.writeByte(i);
+        }
+        return new DatagramPacket(content, new InetSocketAddress("127.0.0.1", 9001), sender);
+    }
+
+    private long allocatedBytes() {
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
@@ -18,7 +18,13 @@
 
 package io.ballerina.stdlib.udp.testutils;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.UdpClient;
+import io.ballerina.stdlib.udp.UdpListener;
+import io.ballerina.stdlib.udp.UdpTransport;
 import io.ballerina.stdlib.udp.Utils;
 
 import java.io.IOException;
@@ -70,4 +76,18 @@ public final class MockServerUtils {
         }
         return null;
     }
+
+    public static boolean isReadingPaused(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        return udpListener.getDispatchStage().isReadingPaused();
+    }
+
+    public static BString getTransport(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        return StringUtils.fromString(udpClient.getTransport().name());
+    }
+
+    public static boolean isTransportAvailable(BString transport) {
+        return UdpTransport.valueOf(transport.getValue()).isAvailable();
+    }
 }